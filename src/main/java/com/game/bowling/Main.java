@@ -3,8 +3,14 @@ package com.game.bowling;
 import com.game.bowling.io.ConsoleIO;
 import com.game.bowling.model.Frame;
 import com.game.bowling.model.Roll;
+import com.game.bowling.persistence.BackpressurePolicy;
+import com.game.bowling.persistence.CompletedGame;
+import com.game.bowling.persistence.GameJournal;
 import com.game.bowling.service.ScoringService;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -17,6 +23,7 @@ public class Main {
 
     private final ConsoleIO io;
     private final ScoringService scoringService;
+    private final GameJournal journal;
 
     /**
      * Constructs the Main class with provided IO and scoring services.
@@ -26,8 +33,20 @@ public class Main {
      * @param scoringService  the ScoringService instance for scoring logic
      */
     public Main(ConsoleIO io, ScoringService scoringService) {
+        this(io, scoringService, null);
+    }
+
+    /**
+     * Constructs the Main class with an audit journal that records every completed game.
+     *
+     * @param io              the ConsoleIO instance for user interaction
+     * @param scoringService  the ScoringService instance for scoring logic
+     * @param journal         the GameJournal receiving completed games, or null to skip auditing
+     */
+    public Main(ConsoleIO io, ScoringService scoringService, GameJournal journal) {
         this.io = io;
         this.scoringService = scoringService;
+        this.journal = journal;
     }
 
     /**
@@ -38,18 +57,34 @@ public class Main {
         List<Frame> frames = scoringService.buildFrames(rolls);    // Build frames from rolls
         int totalScore = scoringService.calculateScore(frames);    // Calculate score
         io.writeScore(frames, totalScore);                         // Display the score
+
+        if (journal != null) {
+            journal.append(new CompletedGame(rolls, frames, totalScore)); // Queue for the audit journal
+        }
     }
 
     /**
      * Main method: application entry point.
      * Initializes dependencies and starts the application logic.
      *
-     * @param args command-line arguments (not used)
+     * @param args command-line arguments: optionally the path of the audit journal file
      */
     public static void main(String[] args) {
         ConsoleIO io = new ConsoleIO();                        // Create input/output handler
         ScoringService scoringService = new ScoringService();  // Create scoring service
-        Main app = new Main(io, scoringService);               // Inject dependencies
-        app.run();                                             // Run the application
+
+        if (args.length == 0) {
+            Main app = new Main(io, scoringService);           // Inject dependencies
+            app.run();                                         // Run the application
+            return;
+        }
+
+        try (GameJournal journal = new GameJournal(Path.of(args[0]), 1024, 256,
+                Duration.ofMillis(100), BackpressurePolicy.BLOCK)) {
+            Main app = new Main(io, scoringService, journal);  // Inject dependencies
+            app.run();                                         // Run the application
+        } catch (IOException e) {                              // Closing drains the journal, which may also fail
+            System.out.println("Audit journal error: " + e.getMessage());
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,255 @@
+package com.game.bowling.codec;
+
+import com.game.bowling.model.Roll;
+import com.game.bowling.service.ScoringService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps every legal complete bowling game to a unique dense ID between 0 and GAME_COUNT - 1, and back.
+ *
+ * A frame can take one of a fixed number of legal shapes: 66 for frames 1-9 (a strike, or two rolls
+ * knocking down at most 10 pins) and 241 for the 10th frame (open, spare plus bonus roll, or strike plus
+ * two bonus rolls). Shapes are numbered in the lexicographic order of their rolls, and a game's ID is
+ * the mixed-radix number formed by its frame shapes with the 1st frame as the most significant digit.
+ * IDs therefore sort in the same order as the roll sequences, from all gutter balls (0) to a perfect game
+ * (GAME_COUNT - 1). Encoding and decoding both take O(frames) time.
+ */
+public class GameIdCodec {
+
+    /** Number of legal shapes of each of the frames 1-9. */
+    public static final int FRAME_SHAPES = 66;
+
+    /** Number of legal shapes of the 10th frame. */
+    public static final int TENTH_FRAME_SHAPES = 241;
+
+    /** Number of legal complete games, i.e. one more than the largest ID. */
+    public static final long GAME_COUNT = pow(FRAME_SHAPES, 9) * TENTH_FRAME_SHAPES;
+
+    // Maximum number of rolls in a game (9 open frames plus 3 rolls in the 10th)
+    private static final int MAX_ROLLS = 21;
+
+    private final ScoringService scoringService;
+
+    /**
+     * Constructs a GameIdCodec.
+     *
+     * @param scoringService the ScoringService used to score games from their ID
+     */
+    public GameIdCodec(ScoringService scoringService) {
+        this.scoringService = scoringService;
+    }
+
+    /**
+     * Converts a complete game into its ID.
+     *
+     * @param rolls the rolls of a legal complete game
+     * @return the game's ID
+     * @throws IllegalArgumentException if the rolls do not form exactly one legal complete game
+     */
+    public long encode(List<Roll> rolls) {
+        int[] pins = new int[rolls.size()];
+        for (int i = 0; i < pins.length; i++) {
+            pins[i] = rolls.get(i).getValue();
+            if (pins[i] < 0 || pins[i] > 10) {
+                throw new IllegalArgumentException("Invalid roll value (must be 0-10): " + pins[i]);
+            }
+        }
+
+        long id = 0;
+        int i = 0;
+        for (int frame = 0; frame < 9; frame++) {
+            int first = pinsAt(pins, i);
+            if (first == 10) {
+                id = id * FRAME_SHAPES + 65;
+                i += 1;
+            } else {
+                int second = pinsAt(pins, i + 1);
+                checkStanding(first, second, frame);
+                id = id * FRAME_SHAPES + offset(11, first) + second;
+                i += 2;
+            }
+        }
+
+        int first = pinsAt(pins, i);
+        int second = pinsAt(pins, i + 1);
+        int shape;
+        if (first == 10) {
+            if (second == 10) {
+                shape = offset(21, 10) + 65 + pinsAt(pins, i + 2);
+            } else {
+                int third = pinsAt(pins, i + 2);
+                checkStanding(second, third, 9);
+                shape = offset(21, 10) + offset(11, second) + third;
+            }
+            i += 3;
+        } else {
+            checkStanding(first, second, 9);
+            if (first + second == 10) {
+                shape = offset(21, first) + second + pinsAt(pins, i + 2);
+                i += 3;
+            } else {
+                shape = offset(21, first) + second;
+                i += 2;
+            }
+        }
+
+        if (i != pins.length) {
+            throw new IllegalArgumentException("Expected " + i + " rolls for a complete game, got " + pins.length);
+        }
+        return id * TENTH_FRAME_SHAPES + shape;
+    }
+
+    /**
+     * Converts an ID back into the rolls of its game.
+     *
+     * @param id a game ID between 0 and GAME_COUNT - 1
+     * @return the rolls of the game
+     */
+    public List<Roll> decode(long id) {
+        int[] pins = new int[MAX_ROLLS];
+        int count = decode(id, pins);
+
+        List<Roll> rolls = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rolls.add(new Roll(pins[i]));
+        }
+        return rolls;
+    }
+
+    /**
+     * Calculates the total score of the game with the given ID without creating Roll or Frame objects.
+     *
+     * @param id a game ID between 0 and GAME_COUNT - 1
+     * @return total game score
+     */
+    public int score(long id) {
+        int[] pins = new int[MAX_ROLLS];
+        int count = decode(id, pins);
+        return scoringService.calculateScore(pins, count);
+    }
+
+    /**
+     * Decodes an ID into pin counts.
+     *
+     * @param id   a game ID between 0 and GAME_COUNT - 1
+     * @param pins array of at least 21 entries receiving the pins of each roll
+     * @return number of rolls in the game
+     */
+    private int decode(long id, int[] pins) {
+        if (id < 0 || id >= GAME_COUNT) {
+            throw new IllegalArgumentException("Game ID out of range: " + id);
+        }
+
+        int[] shapes = new int[10];
+        shapes[9] = (int) (id % TENTH_FRAME_SHAPES);
+        id /= TENTH_FRAME_SHAPES;
+        for (int frame = 8; frame >= 0; frame--) {
+            shapes[frame] = (int) (id % FRAME_SHAPES);
+            id /= FRAME_SHAPES;
+        }
+
+        int count = 0;
+        for (int frame = 0; frame < 9; frame++) {
+            if (shapes[frame] == 65) {
+                pins[count++] = 10;
+            } else {
+                int first = firstOf(11, shapes[frame]);
+                pins[count++] = first;
+                pins[count++] = shapes[frame] - offset(11, first);
+            }
+        }
+
+        int shape = shapes[9];
+        int first = firstOf(21, shape);
+        int rest = shape - offset(21, first);
+        pins[count++] = first;
+        if (first == 10) {
+            if (rest >= 65) {
+                pins[count++] = 10;
+                pins[count++] = rest - 65;
+            } else {
+                int second = firstOf(11, rest);
+                pins[count++] = second;
+                pins[count++] = rest - offset(11, second);
+            }
+        } else if (rest < 10 - first) {
+            pins[count++] = rest;
+        } else {
+            pins[count++] = 10 - first;
+            pins[count++] = rest - (10 - first);
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the number of shapes that start with fewer than the given pins, when a shape starting
+     * with p pins (p below 10) has base - p variants: base 11 for two-roll frames, base 21 for the 10th frame.
+     *
+     * @param base  number of variants of a shape starting with 0 pins
+     * @param first pins knocked down by the first roll (0-10)
+     * @return index of the first shape starting with that many pins
+     */
+    private static int offset(int base, int first) {
+        return base * first - first * (first - 1) / 2;
+    }
+
+    /**
+     * Finds the first roll of the shape with the given index; the inverse of offset.
+     *
+     * @param base  number of variants of a shape starting with 0 pins
+     * @param shape shape index
+     * @return pins knocked down by the first roll
+     */
+    private static int firstOf(int base, int shape) {
+        int first = 0;
+        while (first < 10 && offset(base, first + 1) <= shape) {
+            first++;
+        }
+        return first;
+    }
+
+    /**
+     * Throws if two rolls at the same rack knock down more than 10 pins.
+     *
+     * @param first  pins knocked down by the first ball at the rack
+     * @param second pins knocked down by the second ball at the rack
+     * @param frame  zero-based frame index, used in the error message
+     */
+    private static void checkStanding(int first, int second, int frame) {
+        if (first + second > 10) {
+            throw new IllegalArgumentException("Frame " + (frame + 1) + " knocks down more than 10 pins: " + first + " + " + second);
+        }
+    }
+
+    /**
+     * Returns the pins at the given position, or throws if the game is too short.
+     *
+     * @param pins  pins knocked down by each roll
+     * @param index position of the roll
+     * @return pins knocked down
+     */
+    private static int pinsAt(int[] pins, int index) {
+        if (index >= pins.length) {
+            throw new IllegalArgumentException("Incomplete game: expected more than " + pins.length + " rolls");
+        }
+        return pins[index];
+    }
+
+    /**
+     * Returns base raised to the given exponent.
+     *
+     * @param base     the base
+     * @param exponent a non-negative exponent
+     * @return base to the power of exponent
+     */
+    private static long pow(long base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,120 @@
+package com.game.bowling.ingest;
+
+import com.game.bowling.service.ScoringService;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Keeps the score of every lane up to date from drained roll events.
+ * Each lane's current game is kept as primitive state: its pins in a preallocated array and the roll count.
+ * A new ball rescores the lane with ScoringService's array-based path, so onEvent creates no objects.
+ * Only built frames are scored, the same as calculateScore(buildFrames(rolls)), so the running score
+ * matches EditableGame (and LaneState) for the same rolls. Once a game is complete the next ball
+ * starts a new game.
+ *
+ * onEvent must be called from a single consumer thread; the score getters may be called from any thread.
+ */
+public class LaneScorer implements RollEventHandler {
+
+    // Maximum number of rolls in a game (9 open frames plus 3 rolls in the 10th)
+    private static final int MAX_ROLLS = 21;
+
+    private final ScoringService scoringService;
+
+    // Per-lane state of the current game, only touched by the consumer thread
+    private final int[][] pins;         // pins of each roll
+    private final int[] rollCounts;     // number of rolls recorded
+
+    // Values published for other threads (e.g. score displays)
+    private final AtomicIntegerArray currentScores;
+    private final AtomicIntegerArray lastCompletedScores;
+    private final AtomicLongArray completedGames;
+    private final AtomicLong rejectedEvents = new AtomicLong();
+
+    /**
+     * Constructs a LaneScorer.
+     *
+     * @param lanes          number of lanes
+     * @param scoringService the ScoringService used to score games
+     */
+    public LaneScorer(int lanes, ScoringService scoringService) {
+        this.scoringService = scoringService;
+        this.pins = new int[lanes][MAX_ROLLS];
+        this.rollCounts = new int[lanes];
+        this.currentScores = new AtomicIntegerArray(lanes);
+        this.lastCompletedScores = new AtomicIntegerArray(lanes);
+        this.completedGames = new AtomicLongArray(lanes);
+    }
+
+    /**
+     * Adds the event's roll to its lane's game and publishes the lane's new score.
+     * Events with an unknown lane or a pin count outside 0-10 are counted and skipped.
+     *
+     * @param event      the event slot
+     * @param sequence   the event's sequence number
+     * @param endOfBatch true for the last event of the current batch
+     */
+    @Override
+    public void onEvent(RollEvent event, long sequence, boolean endOfBatch) {
+        int lane = event.getLane();
+        int value = event.getPins();
+        if (lane < 0 || lane >= rollCounts.length || value < 0 || value > 10) {
+            rejectedEvents.incrementAndGet();
+            return;
+        }
+
+        int count = rollCounts[lane];
+        pins[lane][count++] = value;
+        rollCounts[lane] = count;
+        int score = scoringService.calculateScore(pins[lane], scoringService.countFrameRolls(pins[lane], count));
+
+        if (scoringService.isComplete(pins[lane], count)) {
+            lastCompletedScores.set(lane, score);
+            completedGames.incrementAndGet(lane);
+            rollCounts[lane] = 0;
+            score = 0;
+        }
+        currentScores.set(lane, score);
+    }
+
+    /**
+     * Returns the running score of the game in progress on a lane.
+     *
+     * @param lane zero-based lane number
+     * @return current score, 0 if no ball has been thrown in the current game
+     */
+    public int getCurrentScore(int lane) {
+        return currentScores.get(lane);
+    }
+
+    /**
+     * Returns the final score of the last completed game on a lane.
+     *
+     * @param lane zero-based lane number
+     * @return last final score, 0 if no game was completed yet
+     */
+    public int getLastCompletedScore(int lane) {
+        return lastCompletedScores.get(lane);
+    }
+
+    /**
+     * Returns the number of games completed on a lane.
+     *
+     * @param lane zero-based lane number
+     * @return number of completed games
+     */
+    public long getCompletedGames(int lane) {
+        return completedGames.get(lane);
+    }
+
+    /**
+     * Returns the number of events skipped because of an unknown lane or an invalid pin count.
+     *
+     * @return number of rejected events
+     */
+    public long getRejectedEvents() {
+        return rejectedEvents.get();
+    }
+}
@@ -0,0 +1,68 @@
+package com.game.bowling.ingest;
+
+/**
+ * A ball reported by a lane's pinsetter sensor.
+ * Instances are pre-allocated slots of a RollEventRingBuffer and are overwritten as the buffer wraps,
+ * so a consumer must copy any value it needs to keep after its handler returns.
+ */
+public class RollEvent {
+
+    // Lane on which the ball was thrown (zero-based)
+    private int lane;
+
+    // Number of pins knocked down
+    private int pins;
+
+    // System.nanoTime() at which the sensor event was received
+    private long timestamp;
+
+    /**
+     * Fills the slot with a new event.
+     *
+     * @param lane      lane on which the ball was thrown (zero-based)
+     * @param pins      number of pins knocked down
+     * @param timestamp System.nanoTime() at which the event was received
+     */
+    public void set(int lane, int pins, long timestamp) {
+        this.lane = lane;
+        this.pins = pins;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Returns the lane on which the ball was thrown.
+     *
+     * @return zero-based lane number
+     */
+    public int getLane() {
+        return lane;
+    }
+
+    /**
+     * Returns the number of pins knocked down.
+     *
+     * @return pins knocked down
+     */
+    public int getPins() {
+        return pins;
+    }
+
+    /**
+     * Returns the System.nanoTime() at which the event was received.
+     *
+     * @return receive timestamp in nanoseconds
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns a string representation of the event.
+     *
+     * @return string in the format "RollEvent(lane=l, pins=p)"
+     */
+    @Override
+    public String toString() {
+        return "RollEvent(lane=" + lane + ", pins=" + pins + ")";
+    }
+}
@@ -0,0 +1,16 @@
+package com.game.bowling.ingest;
+
+/**
+ * Callback receiving the events drained by a RollEventReader, in sequence order.
+ */
+public interface RollEventHandler {
+
+    /**
+     * Handles one event. The event slot must not be kept after this method returns.
+     *
+     * @param event      the event slot
+     * @param sequence   the event's sequence number
+     * @param endOfBatch true for the last event of the current batch (e.g. to refresh a display once per batch)
+     */
+    void onEvent(RollEvent event, long sequence, boolean endOfBatch);
+}
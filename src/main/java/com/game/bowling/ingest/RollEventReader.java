@@ -0,0 +1,95 @@
+package com.game.bowling.ingest;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reads events from a RollEventRingBuffer in batches.
+ * Each reader sees every published event exactly once, independently of other readers,
+ * and must be used by a single thread.
+ */
+public class RollEventReader {
+
+    private final RollEventRingBuffer ringBuffer;
+
+    // Sequence of the last handled event, read by the writer to know which slots are free
+    private final AtomicLong sequence;
+
+    /**
+     * Constructs a RollEventReader. Use RollEventRingBuffer.newReader instead.
+     *
+     * @param ringBuffer the buffer to read from
+     * @param sequence   the reader's registered sequence
+     */
+    RollEventReader(RollEventRingBuffer ringBuffer, AtomicLong sequence) {
+        this.ringBuffer = ringBuffer;
+        this.sequence = sequence;
+    }
+
+    /**
+     * Waits until at least one event is available, then hands every available event to the handler
+     * and frees their slots with a single update. Returns early with 0 if the thread is interrupted.
+     *
+     * @param handler receives the events
+     * @return number of events handled
+     */
+    public int drain(RollEventHandler handler) {
+        long next = sequence.get() + 1;
+        long available;
+        int attempt = 0;
+
+        while ((available = ringBuffer.getCursor()) < next) {
+            if (Thread.currentThread().isInterrupted()) {
+                return 0;
+            }
+            ringBuffer.getWaitStrategy().idle(attempt++);
+        }
+
+        return handle(handler, next, available);
+    }
+
+    /**
+     * Hands every event available right now to the handler, without waiting.
+     *
+     * @param handler receives the events
+     * @return number of events handled (0 if none were available)
+     */
+    public int poll(RollEventHandler handler) {
+        long next = sequence.get() + 1;
+        long available = ringBuffer.getCursor();
+        return available < next ? 0 : handle(handler, next, available);
+    }
+
+    /**
+     * Returns the sequence of the last handled event.
+     *
+     * @return the reader's sequence
+     */
+    public long getSequence() {
+        return sequence.get();
+    }
+
+    /**
+     * Returns the counter registered with the ring buffer.
+     *
+     * @return the sequence counter
+     */
+    AtomicLong getSequenceCounter() {
+        return sequence;
+    }
+
+    /**
+     * Handles the events from next to available and advances the reader's sequence.
+     *
+     * @param handler   receives the events
+     * @param next      first sequence to handle
+     * @param available last sequence to handle
+     * @return number of events handled
+     */
+    private int handle(RollEventHandler handler, long next, long available) {
+        for (long s = next; s <= available; s++) {
+            handler.onEvent(ringBuffer.get(s), s, s == available);
+        }
+        sequence.setRelease(available);
+        return (int) (available - next + 1);
+    }
+}
@@ -0,0 +1,168 @@
+package com.game.bowling.ingest;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pre-allocated ring buffer carrying roll events from one sensor thread to any number of readers.
+ *
+ * Every slot is a RollEvent created up front and reused, so publishing allocates nothing and takes no lock.
+ * Events are numbered by a growing sequence; the writer makes an event visible by advancing the cursor
+ * to its sequence, and each reader tracks the last sequence it has handled. The writer never overwrites
+ * a slot that a reader has not handled yet, waiting with the configured WaitStrategy instead.
+ *
+ * Only a single thread may call next, publish and get-then-publish for writing.
+ */
+public class RollEventRingBuffer {
+
+    private final RollEvent[] slots;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+
+    // Sequence of the last published event
+    private final AtomicLong cursor = new AtomicLong(-1);
+
+    // Sequences of the last event handled by each reader
+    private final List<AtomicLong> readerSequences = new CopyOnWriteArrayList<>();
+
+    // Writer-thread-only state: next sequence to claim and the last known slowest reader position
+    private long nextSequence = 0;
+    private long cachedSlowestReader = -1;
+
+    /**
+     * Constructs a RollEventRingBuffer.
+     *
+     * @param size         number of slots, a power of two
+     * @param waitStrategy how the writer and readers wait
+     */
+    public RollEventRingBuffer(int size, WaitStrategy waitStrategy) {
+        if (size < 1 || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("Size must be a power of two: " + size);
+        }
+        this.slots = new RollEvent[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new RollEvent();
+        }
+        this.mask = size - 1;
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * Creates a reader that receives every event published from now on.
+     * Readers should be created before the writer starts, so they do not miss events.
+     *
+     * @return a new reader
+     */
+    public RollEventReader newReader() {
+        AtomicLong sequence = new AtomicLong(cursor.get());
+        readerSequences.add(sequence);
+        return new RollEventReader(this, sequence);
+    }
+
+    /**
+     * Removes a reader so it no longer holds back the writer.
+     *
+     * @param reader a reader created by this buffer
+     */
+    public void removeReader(RollEventReader reader) {
+        readerSequences.remove(reader.getSequenceCounter());
+    }
+
+    /**
+     * Claims the next slot for writing, waiting while it still holds an event a reader has not handled.
+     * Writer thread only.
+     *
+     * @return sequence of the claimed slot
+     */
+    public long next() {
+        long sequence = nextSequence;
+        long wrapPoint = sequence - slots.length;
+
+        if (wrapPoint > cachedSlowestReader) {
+            int attempt = 0;
+            while (wrapPoint > (cachedSlowestReader = slowestReader(sequence - 1))) {
+                waitStrategy.idle(attempt++);
+            }
+        }
+
+        nextSequence = sequence + 1;
+        return sequence;
+    }
+
+    /**
+     * Returns the event slot for a sequence.
+     *
+     * @param sequence a claimed or published sequence
+     * @return the slot
+     */
+    public RollEvent get(long sequence) {
+        return slots[(int) sequence & mask];
+    }
+
+    /**
+     * Makes the event at the claimed sequence, and every event before it, visible to readers.
+     * Writer thread only.
+     *
+     * @param sequence the claimed sequence
+     */
+    public void publish(long sequence) {
+        cursor.setRelease(sequence);
+    }
+
+    /**
+     * Claims a slot, fills it and publishes it. Writer thread only.
+     *
+     * @param lane      lane on which the ball was thrown (zero-based)
+     * @param pins      number of pins knocked down
+     * @param timestamp System.nanoTime() at which the event was received
+     * @return the event's sequence
+     */
+    public long publish(int lane, int pins, long timestamp) {
+        long sequence = next();
+        get(sequence).set(lane, pins, timestamp);
+        publish(sequence);
+        return sequence;
+    }
+
+    /**
+     * Returns the sequence of the last published event, or -1 if none.
+     *
+     * @return the cursor
+     */
+    public long getCursor() {
+        return cursor.getAcquire();
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return buffer size
+     */
+    public int getSize() {
+        return slots.length;
+    }
+
+    /**
+     * Returns the wait strategy shared by the writer and readers.
+     *
+     * @return the wait strategy
+     */
+    WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    /**
+     * Returns the sequence of the slowest reader.
+     *
+     * @param fallback value to return when there are no readers
+     * @return smallest reader sequence
+     */
+    private long slowestReader(long fallback) {
+        long minimum = fallback;
+        for (AtomicLong sequence : readerSequences) {
+            minimum = Math.min(minimum, sequence.getAcquire());
+        }
+        return minimum;
+    }
+}
@@ -0,0 +1,56 @@
+package com.game.bowling.ingest;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Decides how a thread waits for the ring buffer: a reader waiting for new events,
+ * or the writer waiting for the slowest reader to free a slot.
+ * Trades latency against CPU use, from lowest latency (BUSY_SPIN) to lowest CPU use (PARK).
+ */
+public enum WaitStrategy {
+
+    /** Spins on the CPU. Lowest latency, but keeps a core fully busy; needs a dedicated core per waiting thread. */
+    BUSY_SPIN {
+        @Override
+        void idle(int attempt) {
+            Thread.onSpinWait();
+        }
+    },
+
+    /** Spins briefly, then yields the CPU to other threads between checks. */
+    YIELD {
+        @Override
+        void idle(int attempt) {
+            if (attempt < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+    },
+
+    /** Spins briefly, then sleeps for short periods between checks. Lowest CPU use, highest latency. */
+    PARK {
+        @Override
+        void idle(int attempt) {
+            if (attempt < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+        }
+    };
+
+    // Number of busy checks before yielding or parking
+    private static final int SPIN_TRIES = 100;
+
+    // Sleep time between checks once parking
+    private static final long PARK_NANOS = 10_000;
+
+    /**
+     * Waits once before the caller checks its condition again.
+     *
+     * @param attempt number of checks already made for the current wait (0 for the first)
+     */
+    abstract void idle(int attempt);
+}
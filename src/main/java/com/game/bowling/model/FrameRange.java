@@ -0,0 +1,63 @@
+package com.game.bowling.model;
+
+/**
+ * Represents an inclusive range of frame indexes (zero-based) affected by a change to a game.
+ * An empty range means no frame needs to be redrawn.
+ */
+public class FrameRange {
+
+    // Index of the first affected frame
+    private final int from;
+
+    // Index of the last affected frame (inclusive)
+    private final int to;
+
+    /**
+     * Constructs a FrameRange between two frame indexes.
+     * If to is smaller than from the range is empty.
+     *
+     * @param from index of the first affected frame
+     * @param to   index of the last affected frame (inclusive)
+     */
+    public FrameRange(int from, int to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Returns the index of the first affected frame.
+     *
+     * @return first frame index
+     */
+    public int getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the index of the last affected frame (inclusive).
+     *
+     * @return last frame index
+     */
+    public int getTo() {
+        return to;
+    }
+
+    /**
+     * Determines if the range contains no frames.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return to < from;
+    }
+
+    /**
+     * Returns a string representation of the range.
+     *
+     * @return string in the format "FrameRange(from..to)"
+     */
+    @Override
+    public String toString() {
+        return "FrameRange(" + from + ".." + to + ")";
+    }
+}
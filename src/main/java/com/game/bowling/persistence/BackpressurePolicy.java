@@ -0,0 +1,13 @@
+package com.game.bowling.persistence;
+
+/**
+ * Decides what GameJournal.append does when the queue of games waiting to be written is full.
+ */
+public enum BackpressurePolicy {
+
+    /** Wait until the background writer has made room. Never loses a game, but slows the caller down. */
+    BLOCK,
+
+    /** Return immediately without queueing the game. Never slows the caller down, but loses the game. */
+    REJECT
+}
@@ -0,0 +1,154 @@
+package com.game.bowling.persistence;
+
+import com.game.bowling.model.Frame;
+import com.game.bowling.model.Roll;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Represents a finished game as stored in the audit journal: its rolls, frames and total score.
+ *
+ * Each game is stored as one line of text, for example
+ * "167|10 7 3 9 0 10 0 8 8 2 0 6 10 10 10 8 1|10;7,3;9,0;10;0,8;8,2;0,6;10;10;10,8,1|1a2b3c4d",
+ * where the last field is a CRC-32 of everything before it. A line that is cut short or damaged
+ * (e.g. by a crash during a write) fails the checksum and is rejected when parsed.
+ */
+public class CompletedGame {
+
+    private final List<Roll> rolls;
+    private final List<Frame> frames;
+    private final int totalScore;
+
+    /**
+     * Constructs a CompletedGame.
+     * Defensive copies are made to protect internal state.
+     *
+     * @param rolls      the rolls of the game
+     * @param frames     the frames built from the rolls
+     * @param totalScore the total calculated score
+     */
+    public CompletedGame(List<Roll> rolls, List<Frame> frames, int totalScore) {
+        this.rolls = new ArrayList<>(rolls);
+        this.frames = new ArrayList<>(frames);
+        this.totalScore = totalScore;
+    }
+
+    /**
+     * Returns a copy of the list of rolls.
+     *
+     * @return a new list containing all rolls
+     */
+    public List<Roll> getRolls() {
+        return new ArrayList<>(rolls);
+    }
+
+    /**
+     * Returns a copy of the list of frames.
+     *
+     * @return a new list containing all frames
+     */
+    public List<Frame> getFrames() {
+        return new ArrayList<>(frames);
+    }
+
+    /**
+     * Returns the total score of the game.
+     *
+     * @return total game score
+     */
+    public int getTotalScore() {
+        return totalScore;
+    }
+
+    /**
+     * Formats the game as a journal line, including the trailing newline.
+     *
+     * @return the journal line
+     */
+    public String toLine() {
+        StringBuilder line = new StringBuilder();
+        line.append(totalScore).append('|');
+
+        for (int i = 0; i < rolls.size(); i++) {
+            line.append(i == 0 ? "" : " ").append(rolls.get(i).getValue());
+        }
+        line.append('|');
+
+        for (int f = 0; f < frames.size(); f++) {
+            List<Roll> frameRolls = frames.get(f).getRolls();
+            line.append(f == 0 ? "" : ";");
+            for (int i = 0; i < frameRolls.size(); i++) {
+                line.append(i == 0 ? "" : ",").append(frameRolls.get(i).getValue());
+            }
+        }
+
+        String body = line.toString();
+        return body + '|' + Long.toHexString(checksum(body)) + '\n';
+    }
+
+    /**
+     * Parses a journal line written by toLine (with or without the trailing newline).
+     *
+     * @param line the journal line
+     * @return the stored game
+     * @throws IllegalArgumentException if the line is malformed or fails its checksum
+     */
+    public static CompletedGame fromLine(String line) {
+        String trimmed = line.endsWith("\n") ? line.substring(0, line.length() - 1) : line;
+        int lastSeparator = trimmed.lastIndexOf('|');
+        if (lastSeparator < 0) {
+            throw new IllegalArgumentException("Missing checksum: " + trimmed);
+        }
+
+        String body = trimmed.substring(0, lastSeparator);
+        String[] fields = body.split("\\|", -1);
+        try {
+            if (fields.length != 3 || Long.parseLong(trimmed.substring(lastSeparator + 1), 16) != checksum(body)) {
+                throw new IllegalArgumentException("Corrupt journal line: " + trimmed);
+            }
+
+            List<Roll> rolls = new ArrayList<>();
+            for (String value : fields[1].isEmpty() ? new String[0] : fields[1].split(" ")) {
+                rolls.add(new Roll(Integer.parseInt(value)));
+            }
+
+            List<Frame> frames = new ArrayList<>();
+            for (String frame : fields[2].isEmpty() ? new String[0] : fields[2].split(";")) {
+                List<Roll> frameRolls = new ArrayList<>();
+                for (String value : frame.split(",")) {
+                    frameRolls.add(new Roll(Integer.parseInt(value)));
+                }
+                frames.add(new Frame(frameRolls));
+            }
+
+            return new CompletedGame(rolls, frames, Integer.parseInt(fields[0]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Corrupt journal line: " + trimmed, e);
+        }
+    }
+
+    /**
+     * Computes the CRC-32 of a line body.
+     *
+     * @param body the line without its checksum field
+     * @return the checksum
+     */
+    private static long checksum(String body) {
+        CRC32 crc = new CRC32();
+        crc.update(body.getBytes(StandardCharsets.US_ASCII));
+        return crc.getValue();
+    }
+
+    /**
+     * Returns a string representation of the game.
+     *
+     * @return string in the format "CompletedGame(total, frames)"
+     */
+    @Override
+    public String toString() {
+        return "CompletedGame(" + totalScore + ", " + frames + ")";
+    }
+}
@@ -0,0 +1,292 @@
+package com.game.bowling.persistence;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Write-behind audit journal of completed games.
+ *
+ * append only puts the game on a bounded lock-free queue, so the scoring path never waits for the disk.
+ * A background writer thread wakes up every flush interval, or as soon as a full batch is queued,
+ * and appends queued games to a single segment file in batches of up to batchSize games, each batch
+ * being one sequential write. After every round of writes the file is forced to disk.
+ *
+ * Crash safety: a game is durable once the round that wrote it has been forced, so a crash loses at most
+ * the games queued or written during the last flush interval. Games are never reordered, and a line torn
+ * by a crash mid-write fails its checksum; readAll stops at the first such line. Opening the journal
+ * checks every line and truncates the file at the first damaged one, so games appended after a restart
+ * are never stuck behind it. close drains the queue, so after a clean shutdown every accepted game is on disk.
+ */
+public class GameJournal implements AutoCloseable {
+
+    // How long a blocked append waits before checking for free room again
+    private static final long BLOCK_PARK_NANOS = 50_000;
+
+    private final FileChannel channel;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final BackpressurePolicy policy;
+
+    // Games waiting to be written; size tracks the queue length to bound it without locking
+    private final Queue<CompletedGame> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final AtomicLong writtenGames = new AtomicLong();
+    private final AtomicLong rejectedGames = new AtomicLong();
+
+    private final Thread writer;
+    private volatile boolean closed;
+    private volatile IOException failure;
+
+    // Test hook: once the writer has seen holdRequested it sets writerHolding and writes nothing until closed
+    private volatile boolean holdRequested;
+    private volatile boolean writerHolding;
+
+    /**
+     * Opens (or creates) a journal segment file and starts its background writer.
+     * The file is truncated at the first line damaged by a crash (along with anything after it),
+     * and new games are appended after the last intact line.
+     *
+     * @param file          the segment file
+     * @param capacity      maximum number of games waiting to be written
+     * @param batchSize     maximum number of games written with a single write
+     * @param flushInterval longest time a game waits before the writer picks it up
+     * @param policy        what append does when the queue is full
+     * @throws IOException if the file cannot be opened
+     */
+    public GameJournal(Path file, int capacity, int batchSize, Duration flushInterval, BackpressurePolicy policy) throws IOException {
+        if (capacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("Capacity and batch size must be positive");
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            long end = readIntact(Files.readAllBytes(file), new ArrayList<>());
+            channel.truncate(end);
+            channel.position(end);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.policy = policy;
+        this.writer = new Thread(this::writeLoop, "game-journal-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Queues a completed game to be written in the background.
+     * If the queue is full, the policy decides whether to wait for room or reject the game.
+     *
+     * @param game the completed game
+     * @return true if the game was queued, false if it was rejected because the queue was full
+     * @throws IllegalStateException if the journal is closed or the writer has failed
+     */
+    public boolean append(CompletedGame game) {
+        while (true) {
+            // Reserve room before checking closed, so close never misses a game it has accepted
+            int queued = size.incrementAndGet();
+            if (closed || failure != null) {
+                size.decrementAndGet();
+                checkOpen();
+            }
+            if (queued <= capacity) {
+                queue.add(game);
+                if (queued >= batchSize) {
+                    LockSupport.unpark(writer);
+                }
+                return true;
+            }
+
+            size.decrementAndGet();
+            if (policy == BackpressurePolicy.REJECT) {
+                rejectedGames.incrementAndGet();
+                return false;
+            }
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Returns the number of games written to the file so far.
+     *
+     * @return number of written games
+     */
+    public long getWrittenGames() {
+        return writtenGames.get();
+    }
+
+    /**
+     * Returns the number of games rejected because the queue was full.
+     *
+     * @return number of rejected games
+     */
+    public long getRejectedGames() {
+        return rejectedGames.get();
+    }
+
+    /**
+     * Stops accepting games, waits until every queued game is written and forced to disk, and closes the file.
+     *
+     * @throws IOException if the background writer failed to write a game
+     */
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            LockSupport.unpark(writer);
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            channel.close();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Reads every intact game from a journal file, in the order they were written.
+     * Reading stops at the first damaged or unterminated line, such as one left by a crash mid-write.
+     *
+     * @param file the segment file
+     * @return the games in the file
+     * @throws IOException if the file cannot be read
+     */
+    public static List<CompletedGame> readAll(Path file) throws IOException {
+        List<CompletedGame> games = new ArrayList<>();
+        readIntact(Files.readAllBytes(file), games);
+        return games;
+    }
+
+    /**
+     * Makes the background writer stop writing until the journal is closed, and waits until it has.
+     * Lets tests fill the queue without the writer draining it.
+     */
+    void holdWriter() {
+        holdRequested = true;
+        while (!writerHolding) {
+            LockSupport.unpark(writer);
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Parses the intact lines at the start of a journal's content.
+     * Each line is decoded on its own, so stray bytes in a damaged line only fail that line's checksum.
+     *
+     * @param content the raw file content
+     * @param games   list receiving the parsed games
+     * @return the position just past the last intact line
+     */
+    private static int readIntact(byte[] content, List<CompletedGame> games) {
+        int start = 0;
+        while (start < content.length) {
+            int end = start;
+            while (end < content.length && content[end] != '\n') {
+                end++;
+            }
+            if (end == content.length) {
+                break; // torn last line
+            }
+            try {
+                games.add(CompletedGame.fromLine(new String(content, start, end - start, StandardCharsets.US_ASCII)));
+            } catch (IllegalArgumentException e) {
+                break; // damaged line
+            }
+            start = end + 1;
+        }
+        return start;
+    }
+
+    /**
+     * Throws if games can no longer be accepted.
+     */
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Journal is closed");
+        }
+        if (failure != null) {
+            throw new IllegalStateException("Journal writer failed", failure);
+        }
+    }
+
+    /**
+     * Body of the background writer: writes queued games until the journal is closed and drained.
+     */
+    private void writeLoop() {
+        ByteArrayOutputStream batch = new ByteArrayOutputStream(batchSize * 64);
+        try {
+            while (true) {
+                boolean stopping = closed;
+                if (holdRequested && !stopping) {
+                    writerHolding = true;
+                    LockSupport.parkNanos(flushIntervalNanos);
+                    continue;
+                }
+                if (writeQueued(batch) > 0) {
+                    channel.force(false);
+                }
+                if (stopping && size.get() == 0) {
+                    return;
+                }
+                if (size.get() < batchSize) {
+                    LockSupport.parkNanos(flushIntervalNanos);
+                }
+            }
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    /**
+     * Writes every queued game, one write per batch.
+     *
+     * @param batch reusable buffer for the encoded batch
+     * @return number of games written
+     * @throws IOException if a write fails
+     */
+    private int writeQueued(ByteArrayOutputStream batch) throws IOException {
+        int total = 0;
+        while (true) {
+            batch.reset();
+            int count = 0;
+            CompletedGame game;
+            while (count < batchSize && (game = queue.poll()) != null) {
+                batch.writeBytes(game.toLine().getBytes(StandardCharsets.US_ASCII));
+                count++;
+            }
+            if (count == 0) {
+                return total;
+            }
+            size.addAndGet(-count);
+
+            ByteBuffer buffer = ByteBuffer.wrap(batch.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            writtenGames.addAndGet(count);
+            total += count;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.game.bowling.replication;
+
+import com.game.bowling.model.Frame;
+import com.game.bowling.model.Roll;
+import com.game.bowling.service.EditableGame;
+import com.game.bowling.service.ScoringService;
+
+import java.util.List;
+
+/**
+ * The replicated state of all lanes: the game in progress on each lane and the sequence of the last roll applied.
+ * The primary records new rolls into it and the standby applies the resulting deltas to its own copy,
+ * so both hold identical state for the same sequence. Once a lane's game is complete, its next roll starts a new game.
+ *
+ * Not thread-safe: each copy must be used by one thread at a time.
+ */
+public class LaneState {
+
+    private final ScoringService scoringService;
+    private final EditableGame[] games;
+    private long lastSequence;
+
+    /**
+     * Constructs a LaneState with an empty game on every lane.
+     *
+     * @param lanes          number of lanes
+     * @param scoringService the ScoringService used to build and score frames
+     */
+    public LaneState(int lanes, ScoringService scoringService) {
+        this.scoringService = scoringService;
+        this.games = new EditableGame[lanes];
+        for (int lane = 0; lane < lanes; lane++) {
+            games[lane] = new EditableGame(List.of(), scoringService);
+        }
+    }
+
+    /**
+     * Records a new roll on the primary and returns the delta to replicate.
+     *
+     * @param lane lane on which the ball was thrown (zero-based)
+     * @param pins number of pins knocked down
+     * @return the delta describing the roll
+     */
+    public RollDelta record(int lane, int pins) {
+        int frameIndex = appendRoll(lane, pins);
+        lastSequence++;
+        return new RollDelta(lastSequence, lane, frameIndex, pins);
+    }
+
+    /**
+     * Applies a delta received from the primary.
+     *
+     * @param delta the next delta in sequence
+     * @throws IllegalStateException if the delta is out of sequence or does not match this copy's frames
+     */
+    public void apply(RollDelta delta) {
+        if (delta.getSequence() != lastSequence + 1) {
+            throw new IllegalStateException("Expected sequence " + (lastSequence + 1) + ", got " + delta);
+        }
+        int frameIndex = appendRoll(delta.getLane(), delta.getPins());
+        if (frameIndex != delta.getFrameIndex()) {
+            throw new IllegalStateException("Replica diverged: roll landed in frame " + frameIndex + ", primary sent " + delta);
+        }
+        lastSequence = delta.getSequence();
+    }
+
+    /**
+     * Returns the sequence of the last recorded or applied roll, 0 if none.
+     *
+     * @return last sequence
+     */
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Returns the number of lanes.
+     *
+     * @return number of lanes
+     */
+    public int getLanes() {
+        return games.length;
+    }
+
+    /**
+     * Returns the rolls of the game in progress on a lane.
+     *
+     * @param lane zero-based lane number
+     * @return a new list containing the rolls
+     */
+    public List<Roll> getRolls(int lane) {
+        return games[lane].getRolls();
+    }
+
+    /**
+     * Returns the frames of the game in progress on a lane.
+     *
+     * @param lane zero-based lane number
+     * @return a new list containing the frames
+     */
+    public List<Frame> getFrames(int lane) {
+        return games[lane].getFrames();
+    }
+
+    /**
+     * Returns the running score of the game in progress on a lane.
+     *
+     * @param lane zero-based lane number
+     * @return current score
+     */
+    public int getScore(int lane) {
+        return games[lane].getTotalScore();
+    }
+
+    /**
+     * Appends a roll to a lane's game, starting a new game if the previous one was complete.
+     *
+     * @param lane lane on which the ball was thrown (zero-based)
+     * @param pins number of pins knocked down
+     * @return zero-based frame the roll belongs to
+     */
+    private int appendRoll(int lane, int pins) {
+        if (lane < 0 || lane >= games.length) {
+            throw new IllegalArgumentException("Unknown lane: " + lane);
+        }
+        if (pins < 0 || pins > 10) {
+            throw new IllegalArgumentException("Invalid roll value (must be 0-10): " + pins);
+        }
+        if (games[lane].isComplete()) {
+            games[lane] = new EditableGame(List.of(), scoringService);
+        }
+
+        EditableGame game = games[lane];
+        game.appendRoll(new Roll(pins));
+
+        // Once all 10 frames exist, every further roll is a bonus roll of the 10th frame,
+        // even while that frame is still waiting for its remaining bonus rolls
+        List<Frame> frames = game.getFrames();
+        if (frames.size() == 10) {
+            return 9;
+        }
+
+        // Otherwise the roll belongs to the last built frame, unless it is still waiting for its frame to be built
+        int builtRolls = 0;
+        for (Frame frame : frames) {
+            builtRolls += frame.getRolls().size();
+        }
+        return builtRolls == game.getRolls().size() ? frames.size() - 1 : frames.size();
+    }
+}
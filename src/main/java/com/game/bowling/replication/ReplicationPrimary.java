@@ -0,0 +1,243 @@
+package com.game.bowling.replication;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Primary side of lane-state replication.
+ *
+ * recordRoll updates the primary's own LaneState and queues the resulting delta; a background sender
+ * thread streams queued deltas to the standby over TCP. Deltas queued while a batch is in flight are
+ * sent together as the next batch (up to maxBatch), which keeps the number of round trips low under load.
+ *
+ * Wire format of a batch: an int count followed by count 12-byte deltas. The standby answers every
+ * batch with a long: the sequence of the last delta it has applied. A roll is safe against losing the
+ * primary once its sequence has been acknowledged. A standby that does not acknowledge a batch within the
+ * ack timeout is treated as failed, so neither the sender nor close can hang on a stalled standby.
+ *
+ * Losing the standby never stops scoring: once replication has failed the primary is degraded, keeps
+ * recording rolls without replicating them, and reports the failure through isDegraded and close.
+ * getLastAckedSequence stays at the last roll the standby confirmed, which is where a takeover would resume.
+ *
+ * At most capacity deltas wait to be sent. When the queue is full, recordRoll blocks the calling thread
+ * until the sender has made room (or replication has failed) before the roll is recorded.
+ */
+public class ReplicationPrimary implements AutoCloseable {
+
+    // How long a blocked recordRoll waits before checking for free room again
+    private static final long BLOCK_PARK_NANOS = 50_000;
+
+    private final LaneState state;
+    private final int maxBatch;
+    private final Socket socket;
+    private final DataOutputStream out;
+    private final DataInputStream in;
+
+    // Deltas waiting to be sent, bounded by the capacity
+    private final BlockingQueue<RollDelta> queue;
+    private final Object ackMonitor = new Object();
+    private final Thread sender;
+
+    private volatile long lastAckedSequence;
+    private volatile boolean closed;
+    private volatile IOException failure;
+
+    /**
+     * Connects to a standby and starts the sender thread.
+     *
+     * @param state      the primary's lane state
+     * @param standby    address of the standby
+     * @param maxBatch   maximum number of deltas sent in one batch
+     * @param capacity   maximum number of deltas waiting to be sent
+     * @param ackTimeout longest time to wait for the standby to acknowledge a batch
+     * @throws IOException if the standby cannot be reached
+     */
+    public ReplicationPrimary(LaneState state, InetSocketAddress standby, int maxBatch, int capacity, Duration ackTimeout) throws IOException {
+        if (maxBatch < 1 || capacity < 1) {
+            throw new IllegalArgumentException("Batch size and capacity must be positive");
+        }
+        if (ackTimeout.toMillis() < 1 || ackTimeout.toMillis() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Ack timeout must be between 1 ms and " + Integer.MAX_VALUE + " ms: " + ackTimeout);
+        }
+        this.state = state;
+        this.maxBatch = maxBatch;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.lastAckedSequence = state.getLastSequence();
+        this.socket = new Socket();
+        try {
+            this.socket.setTcpNoDelay(true);
+            this.socket.setSoTimeout((int) ackTimeout.toMillis());
+            this.socket.connect(standby, (int) ackTimeout.toMillis());
+            this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), maxBatch * RollDelta.ENCODED_SIZE + 4));
+            this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+        this.sender = new Thread(this::sendLoop, "replication-sender");
+        this.sender.setDaemon(true);
+        this.sender.start();
+    }
+
+    /**
+     * Records a roll in the primary's state and queues it for replication.
+     * If the queue is full, waits until the sender has made room before recording the roll.
+     * Once replication has failed the roll is still recorded, but no longer queued.
+     * Must be called from a single thread (the one owning the lane state).
+     *
+     * @param lane lane on which the ball was thrown (zero-based)
+     * @param pins number of pins knocked down
+     * @return the delta describing the roll
+     * @throws IllegalStateException if the primary is closed
+     */
+    public RollDelta recordRoll(int lane, int pins) {
+        if (closed) {
+            throw new IllegalStateException("Primary is closed");
+        }
+        while (failure == null && queue.remainingCapacity() == 0) {
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+        RollDelta delta = state.record(lane, pins);
+        if (failure == null) {
+            queue.add(delta); // only this thread adds to the queue, so the room found above is still there
+        }
+        return delta;
+    }
+
+    /**
+     * Determines if replication has failed, so new rolls are only recorded on the primary.
+     *
+     * @return true if the primary is running without a standby, false otherwise
+     */
+    public boolean isDegraded() {
+        return failure != null;
+    }
+
+    /**
+     * Returns the sequence of the last delta acknowledged by the standby.
+     *
+     * @return last acknowledged sequence
+     */
+    public long getLastAckedSequence() {
+        return lastAckedSequence;
+    }
+
+    /**
+     * Waits until the standby has acknowledged the given sequence.
+     *
+     * @param sequence the sequence to wait for
+     * @param timeout  maximum time to wait
+     * @param unit     unit of the timeout
+     * @return true if acknowledged, false if the timeout expired or replication failed
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public boolean awaitAck(long sequence, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (ackMonitor) {
+            while (lastAckedSequence < sequence && failure == null) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(ackMonitor, remaining);
+            }
+        }
+        return lastAckedSequence >= sequence;
+    }
+
+    /**
+     * Sends every queued delta, waits for its acknowledgement, and disconnects from the standby.
+     *
+     * @throws IOException if replication failed
+     */
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            sender.interrupt();
+            try {
+                sender.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            socket.close();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Body of the sender thread: sends batches until closed and the queue is empty.
+     */
+    private void sendLoop() {
+        List<RollDelta> batch = new ArrayList<>(maxBatch);
+        try {
+            while (true) {
+                RollDelta first;
+                try {
+                    first = closed ? queue.poll() : queue.take();
+                } catch (InterruptedException e) {
+                    first = queue.poll(); // closing: drain what is left
+                }
+                if (first == null) {
+                    return;
+                }
+
+                batch.clear();
+                batch.add(first);
+                queue.drainTo(batch, maxBatch - 1);
+                sendBatch(batch);
+            }
+        } catch (IOException e) {
+            failure = e;
+            queue.clear(); // nothing will send these any more
+            synchronized (ackMonitor) {
+                ackMonitor.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Writes one batch and waits for the standby's acknowledgement.
+     *
+     * @param batch the deltas to send
+     * @throws IOException if the connection fails, or the acknowledgement is late or wrong
+     */
+    private void sendBatch(List<RollDelta> batch) throws IOException {
+        out.writeInt(batch.size());
+        for (RollDelta delta : batch) {
+            delta.writeTo(out);
+        }
+        out.flush();
+
+        long acked;
+        try {
+            acked = in.readLong();
+        } catch (SocketTimeoutException e) {
+            throw new IOException("Standby did not acknowledge sequence " + batch.get(batch.size() - 1).getSequence()
+                + " within " + socket.getSoTimeout() + " ms", e);
+        }
+        long expected = batch.get(batch.size() - 1).getSequence();
+        if (acked != expected) {
+            throw new IOException("Standby acknowledged sequence " + acked + ", expected " + expected);
+        }
+        synchronized (ackMonitor) {
+            lastAckedSequence = acked;
+            ackMonitor.notifyAll();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.game.bowling.replication;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+/**
+ * Standby side of lane-state replication.
+ *
+ * Listens for a primary, applies every received batch of deltas to its own LaneState and acknowledges
+ * the last applied sequence. A batch is read completely before any of it is applied, so a connection lost
+ * mid-batch applies nothing from that batch. Acknowledgements are only sent after the whole batch is
+ * applied, so when the primary fails the standby's state is exactly the primary's state at the last
+ * acknowledged sequence (or slightly newer, if the primary died before reading the final acknowledgement).
+ * takeOver stops replication and hands the state over so this node can continue as the primary.
+ */
+public class ReplicationStandby implements AutoCloseable {
+
+    private final LaneState state;
+    private final ServerSocket serverSocket;
+    private final Thread receiver;
+
+    // Set by close before it looks at connection, and checked by the receiver after setting connection,
+    // so a primary accepted while closing is always disconnected by one side or the other
+    private volatile boolean closed;
+    private volatile Socket connection;
+    private volatile IOException failure;
+
+    /**
+     * Starts listening for a primary on the loopback interface.
+     *
+     * @param state the standby's lane state, in the same state as the primary's when it connects
+     * @param port  port to listen on, 0 for any free port
+     * @throws IOException if the port cannot be opened
+     */
+    public ReplicationStandby(LaneState state, int port) throws IOException {
+        this.state = state;
+        this.serverSocket = new ServerSocket();
+        this.serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        this.receiver = new Thread(this::receiveLoop, "replication-receiver");
+        this.receiver.setDaemon(true);
+        this.receiver.start();
+    }
+
+    /**
+     * Returns the address the primary should connect to.
+     *
+     * @return the listening address
+     */
+    public InetSocketAddress getAddress() {
+        return (InetSocketAddress) serverSocket.getLocalSocketAddress();
+    }
+
+    /**
+     * Stops replication and returns the replicated state, so this node can continue as the primary.
+     *
+     * @return the lane state, as of the last applied sequence
+     * @throws IOException if a received delta could not be applied
+     */
+    public LaneState takeOver() throws IOException {
+        close();
+        if (failure != null) {
+            throw failure;
+        }
+        return state;
+    }
+
+    /**
+     * Stops listening and disconnects from the primary.
+     *
+     * @throws IOException if closing the sockets fails
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        serverSocket.close();
+        Socket current = connection;
+        if (current != null) {
+            current.close();
+        }
+        try {
+            receiver.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Body of the receiver thread: accepts one primary and applies its batches until it disconnects.
+     */
+    private void receiveLoop() {
+        try (Socket socket = serverSocket.accept()) {
+            connection = socket;
+            if (closed) {
+                return; // close ran while accept was returning and did not see this connection
+            }
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+            while (true) {
+                int count;
+                try {
+                    count = in.readInt();
+                } catch (EOFException e) {
+                    return; // primary disconnected
+                }
+                if (count < 1) {
+                    failure = new IOException("Invalid batch size: " + count);
+                    return;
+                }
+                RollDelta[] batch = new RollDelta[count];
+                for (int i = 0; i < count; i++) {
+                    batch[i] = RollDelta.readFrom(in);
+                }
+                for (RollDelta delta : batch) {
+                    state.apply(delta);
+                }
+                out.writeLong(state.getLastSequence());
+                out.flush();
+            }
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            failure = new IOException("Could not apply replicated roll", e);
+        } catch (IOException e) {
+            // connection closed by takeOver/close or lost with the primary; the state stays as last applied
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.game.bowling.replication;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * A single roll replicated from the primary to the standby.
+ * Encoded on the wire as 12 bytes: sequence (8), lane (2), frame index (1) and pins (1).
+ */
+public class RollDelta {
+
+    /** Size of one encoded delta in bytes. */
+    public static final int ENCODED_SIZE = 12;
+
+    private final long sequence;
+    private final int lane;
+    private final int frameIndex;
+    private final int pins;
+
+    /**
+     * Constructs a RollDelta.
+     *
+     * @param sequence   position of the roll in the primary's stream of rolls, starting at 1
+     * @param lane       lane on which the ball was thrown (zero-based)
+     * @param frameIndex zero-based frame the roll belongs to in the lane's current game
+     * @param pins       number of pins knocked down
+     */
+    public RollDelta(long sequence, int lane, int frameIndex, int pins) {
+        this.sequence = sequence;
+        this.lane = lane;
+        this.frameIndex = frameIndex;
+        this.pins = pins;
+    }
+
+    /**
+     * Returns the position of the roll in the primary's stream of rolls.
+     *
+     * @return sequence number
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns the lane on which the ball was thrown.
+     *
+     * @return zero-based lane number
+     */
+    public int getLane() {
+        return lane;
+    }
+
+    /**
+     * Returns the frame the roll belongs to in the lane's current game.
+     *
+     * @return zero-based frame index
+     */
+    public int getFrameIndex() {
+        return frameIndex;
+    }
+
+    /**
+     * Returns the number of pins knocked down.
+     *
+     * @return pins knocked down
+     */
+    public int getPins() {
+        return pins;
+    }
+
+    /**
+     * Writes the delta in its 12-byte wire format.
+     *
+     * @param out the stream to write to
+     * @throws IOException if writing fails
+     */
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeLong(sequence);
+        out.writeShort(lane);
+        out.writeByte(frameIndex);
+        out.writeByte(pins);
+    }
+
+    /**
+     * Reads a delta written by writeTo.
+     *
+     * @param in the stream to read from
+     * @return the delta
+     * @throws IOException if reading fails or the stream ends
+     */
+    public static RollDelta readFrom(DataInputStream in) throws IOException {
+        long sequence = in.readLong();
+        int lane = in.readUnsignedShort();
+        int frameIndex = in.readUnsignedByte();
+        int pins = in.readUnsignedByte();
+        return new RollDelta(sequence, lane, frameIndex, pins);
+    }
+
+    /**
+     * Returns a string representation of the delta.
+     *
+     * @return string in the format "RollDelta(#seq lane=l frame=f pins=p)"
+     */
+    @Override
+    public String toString() {
+        return "RollDelta(#" + sequence + " lane=" + lane + " frame=" + frameIndex + " pins=" + pins + ")";
+    }
+}
@@ -0,0 +1,224 @@
+package com.game.bowling.service;
+
+import com.game.bowling.model.Frame;
+import com.game.bowling.model.FrameRange;
+import com.game.bowling.model.Roll;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A bowling game whose rolls can be corrected after they were recorded.
+ * Rolls can be replaced, inserted or deleted at an index; after each edit only the frames
+ * from the affected frame onward are re-segmented, and cumulative scores are recomputed
+ * starting at most two frames before it (the frames whose bonus may include the edited roll).
+ */
+public class EditableGame {
+
+    private final ScoringService scoringService;
+
+    // All recorded rolls, including any not (yet) part of a frame
+    private final List<Roll> rolls;
+
+    // Frames built from the rolls, at most 10
+    private final List<Frame> frames = new ArrayList<>();
+
+    // Index of the first roll of each frame
+    private final List<Integer> frameStarts = new ArrayList<>();
+
+    // Running total of the game at the end of each frame
+    private final int[] cumulativeScores = new int[10];
+
+    /**
+     * Constructs an EditableGame from an initial list of rolls.
+     * Defensive copy is made to protect internal state.
+     *
+     * @param rolls          the rolls recorded so far
+     * @param scoringService the ScoringService used to build and score frames
+     */
+    public EditableGame(List<Roll> rolls, ScoringService scoringService) {
+        this.scoringService = scoringService;
+        this.rolls = new ArrayList<>(rolls);
+        rebuildFrom(0);
+    }
+
+    /**
+     * Replaces the roll at the given index.
+     *
+     * @param index position of the roll to replace
+     * @param roll  the corrected roll
+     * @return the range of frames whose rolls or cumulative scores may have changed
+     */
+    public FrameRange replaceRoll(int index, Roll roll) {
+        checkIndex(index, rolls.size() - 1);
+        int frame = frameOf(index);
+        rolls.set(index, roll);
+        return rebuildFrom(frame);
+    }
+
+    /**
+     * Inserts a roll at the given index, shifting the following rolls one position later.
+     *
+     * @param index position at which to insert (may equal the number of rolls to append)
+     * @param roll  the roll to insert
+     * @return the range of frames whose rolls or cumulative scores may have changed
+     */
+    public FrameRange insertRoll(int index, Roll roll) {
+        checkIndex(index, rolls.size());
+        int frame = frameOf(index);
+        rolls.add(index, roll);
+        return rebuildFrom(frame);
+    }
+
+    /**
+     * Appends a roll after the last recorded roll.
+     *
+     * @param roll the new roll
+     * @return the range of frames whose rolls or cumulative scores may have changed
+     */
+    public FrameRange appendRoll(Roll roll) {
+        return insertRoll(rolls.size(), roll);
+    }
+
+    /**
+     * Deletes the roll at the given index, shifting the following rolls one position earlier.
+     *
+     * @param index position of the roll to delete
+     * @return the range of frames whose rolls or cumulative scores may have changed
+     */
+    public FrameRange deleteRoll(int index) {
+        checkIndex(index, rolls.size() - 1);
+        int frame = frameOf(index);
+        rolls.remove(index);
+        return rebuildFrom(frame);
+    }
+
+    /**
+     * Returns a copy of the list of rolls.
+     *
+     * @return a new list containing all rolls
+     */
+    public List<Roll> getRolls() {
+        return new ArrayList<>(rolls);
+    }
+
+    /**
+     * Returns a copy of the list of frames.
+     *
+     * @return a new list containing all frames
+     */
+    public List<Frame> getFrames() {
+        return new ArrayList<>(frames);
+    }
+
+    /**
+     * Returns the running total of the game at the end of the given frame.
+     *
+     * @param frame zero-based frame index
+     * @return cumulative score up to and including the frame
+     */
+    public int getCumulativeScore(int frame) {
+        checkIndex(frame, frames.size() - 1);
+        return cumulativeScores[frame];
+    }
+
+    /**
+     * Returns the total score of the game, equal to calculateScore over all frames.
+     *
+     * @return total game score
+     */
+    public int getTotalScore() {
+        return frames.isEmpty() ? 0 : cumulativeScores[frames.size() - 1];
+    }
+
+    /**
+     * Determines if the game is complete: 10 frames, with the 10th frame holding
+     * 3 rolls after a strike or spare and 2 rolls otherwise.
+     *
+     * @return true if no more rolls belong to this game, false otherwise
+     */
+    public boolean isComplete() {
+        if (frames.size() < 10) {
+            return false;
+        }
+        Frame tenth = frames.get(9);
+        int rollCount = tenth.getRolls().size();
+        return (tenth.isStrike() || tenth.isSpare()) ? rollCount == 3 : rollCount >= 2;
+    }
+
+    /**
+     * Finds the frame that contains the roll at the given index.
+     * Rolls after the last built frame belong to the next (not yet built) frame, except that
+     * a 10th frame with fewer than 3 rolls can still take bonus rolls.
+     *
+     * @param rollIndex index of a roll
+     * @return zero-based frame index
+     */
+    private int frameOf(int rollIndex) {
+        for (int f = 0; f < frames.size(); f++) {
+            if (rollIndex < frameStarts.get(f) + frames.get(f).getRolls().size()) {
+                return f;
+            }
+        }
+        if (frames.size() == 10 && frames.get(9).getRolls().size() < 3) {
+            return 9;
+        }
+        return frames.size();
+    }
+
+    /**
+     * Re-segments frames starting at the given frame and recomputes cumulative scores
+     * from two frames earlier, since strike bonuses reach at most two frames ahead.
+     *
+     * @param firstFrame the first frame whose rolls may have changed
+     * @return the range of frames that were recomputed
+     */
+    private FrameRange rebuildFrom(int firstFrame) {
+        int oldSize = frames.size();
+        int startRoll = firstFrame == 0 ? 0 : endOfFrame(firstFrame - 1);
+
+        frames.subList(firstFrame, frames.size()).clear();
+        frameStarts.subList(firstFrame, frameStarts.size()).clear();
+
+        int next = startRoll;
+        for (Frame frame : scoringService.buildFrames(rolls, startRoll, firstFrame)) {
+            frames.add(frame);
+            frameStarts.add(next);
+            next += frame.getRolls().size();
+        }
+
+        if (firstFrame >= oldSize && frames.size() == oldSize) {
+            return new FrameRange(firstFrame, firstFrame - 1); // no frame changed
+        }
+
+        int firstScore = Math.max(0, firstFrame - 2);
+        for (int i = firstScore; i < frames.size(); i++) {
+            int previous = i > 0 ? cumulativeScores[i - 1] : 0;
+            cumulativeScores[i] = previous + scoringService.calculateFrameScore(frames, i);
+        }
+
+        return new FrameRange(firstScore, Math.max(oldSize, frames.size()) - 1);
+    }
+
+    /**
+     * Returns the index just past the last roll of the given frame.
+     *
+     * @param frame zero-based frame index
+     * @return index of the first roll after the frame
+     */
+    private int endOfFrame(int frame) {
+        return frameStarts.get(frame) + frames.get(frame).getRolls().size();
+    }
+
+    /**
+     * Throws if the index is outside 0..max.
+     *
+     * @param index the index to check
+     * @param max   the largest allowed index
+     */
+    private void checkIndex(int index, int max) {
+        if (index < 0 || index > max) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range 0.." + max);
+        }
+    }
+}
@@ -22,10 +22,24 @@ public class ScoringService {
      * @return list of up to 10 Frame objects
      */
     public List<Frame> buildFrames(List<Roll> allRolls) {
+        return buildFrames(allRolls, 0, 0);
+    }
+
+    /**
+     * Converts the rolls starting at a given position into frames, assuming that
+     * position is the first roll of the given frame.
+     * Used to re-segment only the tail of a game after an earlier frame boundary is known.
+     *
+     * @param allRolls  the complete list of rolls entered by the user
+     * @param fromRoll  index of the first roll of the starting frame
+     * @param fromFrame zero-based index of the starting frame
+     * @return list of the frames from fromFrame up to the 10th frame
+     */
+    public List<Frame> buildFrames(List<Roll> allRolls, int fromRoll, int fromFrame) {
         List<Frame> frames = new ArrayList<>();
-        int i = 0;
+        int i = fromRoll;
 
-        for (int frame = 0; frame < 10 && i < allRolls.size(); frame++) {
+        for (int frame = fromFrame; frame < 10 && i < allRolls.size(); frame++) {
             // Handle strike
             if (allRolls.get(i).getValue() == 10) {
                 if (frame == 9 && i + 2 < allRolls.size()) {
@@ -63,20 +77,113 @@ public class ScoringService {
         int total = 0;
 
         for (int i = 0; i < frames.size(); i++) {
-            Frame frame = frames.get(i);
+            total += calculateFrameScore(frames, i);
+        }
 
-            if (frame.isStrike()) {
-                total += 10 + getNextTwoRollValues(frames, i);
-            } else if (frame.isSpare()) {
-                total += 10 + getNextOneRollValue(frames, i);
+        return total;
+    }
+
+    /**
+     * Calculates the total score of a complete game given as raw pin counts.
+     * Applies the same rules as calculateScore but works on a primitive array without
+     * creating Roll or Frame objects, so it can be called in tight loops (e.g. simulations).
+     * For a game in progress, pass countFrameRolls(pins, count) as the count to get the same
+     * running score as calculateScore(buildFrames(rolls)).
+     *
+     * @param pins  pins knocked down by each roll, in order
+     * @param count number of valid entries in pins
+     * @return total game score
+     */
+    public int calculateScore(int[] pins, int count) {
+        int total = 0;
+        int i = 0;
+
+        for (int frame = 0; frame < 10 && i < count; frame++) {
+            if (pins[i] == 10) {
+                total += 10 + pinsAt(pins, count, i + 1) + pinsAt(pins, count, i + 2);
+                i += 1;
+            } else if (pins[i] + pinsAt(pins, count, i + 1) == 10) {
+                total += 10 + pinsAt(pins, count, i + 2);
+                i += 2;
             } else {
-                total += frame.getFirstRollValue() + frame.getSecondRollValue();
+                total += pins[i] + pinsAt(pins, count, i + 1);
+                i += 2;
             }
         }
 
         return total;
     }
 
+    /**
+     * Counts the leading rolls that buildFrames would group into frames, using the same rules
+     * on a primitive array. Rolls still waiting for the rest of their frame are not counted.
+     *
+     * @param pins  pins knocked down by each roll, in order
+     * @param count number of valid entries in pins
+     * @return number of rolls that belong to built frames
+     */
+    public int countFrameRolls(int[] pins, int count) {
+        int i = 0;
+
+        for (int frame = 0; frame < 10 && i < count; frame++) {
+            if (frame == 9 && i + 2 < count) {
+                i += 3;                 // 10th frame with its bonus roll
+            } else if (pins[i] == 10) {
+                i += 1;                 // strike
+            } else if (i + 1 < count) {
+                i += 2;                 // spare or open frame
+            } else {
+                break;                  // lone first roll of an unfinished frame
+            }
+        }
+
+        return i;
+    }
+
+    /**
+     * Determines if the rolls form a complete game: 10 frames, with the 10th frame holding
+     * 3 rolls after a strike or spare and 2 rolls otherwise.
+     *
+     * @param pins  pins knocked down by each roll, in order
+     * @param count number of valid entries in pins
+     * @return true if no more rolls belong to this game, false otherwise
+     */
+    public boolean isComplete(int[] pins, int count) {
+        int i = 0;
+        for (int frame = 0; frame < 9; frame++) {
+            if (i >= count) {
+                return false;
+            }
+            i += pins[i] == 10 ? 1 : 2;
+        }
+
+        if (i + 1 >= count) {
+            return false;
+        }
+        boolean bonus = pins[i] == 10 || pins[i] + pins[i + 1] == 10;
+        return count - i >= (bonus ? 3 : 2);
+    }
+
+    /**
+     * Calculates the score of a single frame, including its strike or spare bonus.
+     * Only the frame itself and the (at most two) frames after it are inspected.
+     *
+     * @param frames the list of frames created from rolls
+     * @param index  the index of the frame to score
+     * @return score of the frame at the given index
+     */
+    public int calculateFrameScore(List<Frame> frames, int index) {
+        Frame frame = frames.get(index);
+
+        if (frame.isStrike()) {
+            return 10 + getNextTwoRollValues(frames, index);
+        } else if (frame.isSpare()) {
+            return 10 + getNextOneRollValue(frames, index);
+        } else {
+            return frame.getFirstRollValue() + frame.getSecondRollValue();
+        }
+    }
+
     /**
      * Returns the value of the next roll following the given frame.
      * Used for calculating the bonus of a spare.
@@ -132,4 +239,16 @@ public class ScoringService {
 
         return values.stream().mapToInt(Integer::intValue).sum();
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the pins at the given position, or 0 if the roll has not been made.
+     *
+     * @param pins  pins knocked down by each roll
+     * @param count number of valid entries in pins
+     * @param index position of the roll
+     * @return pins knocked down, or 0 if not available
+     */
+    private int pinsAt(int[] pins, int count, int index) {
+        return index < count ? pins[index] : 0;
+    }
+}
@@ -0,0 +1,205 @@
+package com.game.bowling.simulation;
+
+import com.game.bowling.service.ScoringService;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Simulates large numbers of bowling games for bowlers described by a PinDistribution.
+ * Work is split into fixed-size chunks that run on a thread pool; each chunk's histogram is added to
+ * the bowler's total as soon as it completes, so only a few chunks are held in memory at a time.
+ * Every chunk gets its own SplittableRandom stream, split in chunk order from a single seed, so results
+ * only depend on the seed and the number of games, never on the number of threads or their scheduling.
+ *
+ * Games are played into a reused int array and scored with ScoringService's array-based path,
+ * so the inner loop creates no Roll or Frame objects.
+ */
+public class MonteCarloSimulator {
+
+    /** Number of games simulated by one task. */
+    static final int CHUNK_SIZE = 1 << 16;
+
+    // Maximum number of rolls in a game (9 open frames plus 3 rolls in the 10th)
+    private static final int MAX_ROLLS = 21;
+
+    private final ScoringService scoringService;
+    private final int threads;
+    private final long seed;
+
+    /**
+     * Constructs a MonteCarloSimulator.
+     *
+     * @param scoringService the ScoringService used to score simulated games
+     * @param threads        number of worker threads (e.g. the number of available cores)
+     * @param seed           seed from which all random streams are derived
+     */
+    public MonteCarloSimulator(ScoringService scoringService, int threads, long seed) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is required: " + threads);
+        }
+        this.scoringService = scoringService;
+        this.threads = threads;
+        this.seed = seed;
+    }
+
+    /**
+     * Simulates games for a single bowler.
+     *
+     * @param bowler the bowler's pin distribution
+     * @param games  number of games to simulate
+     * @return distribution of the final scores
+     */
+    public ScoreDistribution simulate(PinDistribution bowler, long games) {
+        return simulateSeason(Map.of("bowler", bowler), games).get("bowler");
+    }
+
+    /**
+     * Simulates a season: the same number of games for every bowler.
+     * Each bowler is simulated with its own random streams, split from the seed in iteration order.
+     *
+     * @param bowlers        pin distributions by bowler name
+     * @param gamesPerBowler number of games to simulate for each bowler
+     * @return score distributions by bowler name, in the iteration order of bowlers
+     */
+    public Map<String, ScoreDistribution> simulateSeason(Map<String, PinDistribution> bowlers, long gamesPerBowler) {
+        if (gamesPerBowler < 0) {
+            throw new IllegalArgumentException("Number of games must not be negative: " + gamesPerBowler);
+        }
+
+        SplittableRandom root = new SplittableRandom(seed);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Map<String, ScoreDistribution> results = new LinkedHashMap<>();
+            for (Map.Entry<String, PinDistribution> entry : bowlers.entrySet()) {
+                results.put(entry.getKey(), simulateBowler(executor, root, entry.getValue(), gamesPerBowler));
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the probability that the first bowler wins a single game against the second,
+     * where ties count as half a win, based on their simulated score distributions.
+     *
+     * @param first  the first bowler's score distribution
+     * @param second the second bowler's score distribution
+     * @return the first bowler's expected share of wins
+     */
+    public static double headToHead(ScoreDistribution first, ScoreDistribution second) {
+        return first.probabilityOfBeating(second) + first.probabilityOfTie(second) / 2;
+    }
+
+    /**
+     * Simulates all games of one bowler, keeping at most two chunks per thread in flight
+     * and adding each chunk's histogram to the total as soon as it completes.
+     * Chunks take their random streams from root in chunk order, so the result does not depend on
+     * which chunk finishes first.
+     *
+     * @param executor the worker pool
+     * @param root     the stream the chunks' random streams are split from
+     * @param bowler   the bowler's pin distribution
+     * @param games    number of games to simulate
+     * @return distribution of the final scores
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     * @throws ExecutionException   if a chunk fails
+     */
+    private ScoreDistribution simulateBowler(ExecutorService executor, SplittableRandom root,
+                                             PinDistribution bowler, long games)
+            throws InterruptedException, ExecutionException {
+        CompletionService<long[]> completion = new ExecutorCompletionService<>(executor);
+        long[] histogram = new long[ScoreDistribution.MAX_SCORE + 1];
+        int maxInFlight = threads * 2;
+        int inFlight = 0;
+        long start = 0;
+
+        while (start < games || inFlight > 0) {
+            while (start < games && inFlight < maxInFlight) {
+                int size = (int) Math.min(CHUNK_SIZE, games - start);
+                SplittableRandom random = root.split();
+                completion.submit(() -> simulateChunk(bowler, size, random));
+                start += size;
+                inFlight++;
+            }
+
+            long[] partial = completion.take().get();
+            inFlight--;
+            for (int s = 0; s < histogram.length; s++) {
+                histogram[s] += partial[s];
+            }
+        }
+
+        return new ScoreDistribution(histogram);
+    }
+
+    /**
+     * Simulates one chunk of games on the calling thread.
+     *
+     * @param bowler the bowler's pin distribution
+     * @param games  number of games in the chunk
+     * @param random the chunk's own random stream
+     * @return histogram of scores for the chunk
+     */
+    private long[] simulateChunk(PinDistribution bowler, int games, SplittableRandom random) {
+        long[] histogram = new long[ScoreDistribution.MAX_SCORE + 1];
+        int[] pins = new int[MAX_ROLLS];
+
+        for (int g = 0; g < games; g++) {
+            int count = playGame(bowler, random, pins);
+            histogram[scoringService.calculateScore(pins, count)]++;
+        }
+
+        return histogram;
+    }
+
+    /**
+     * Plays a complete game into the given array.
+     * Follows the same frame rules as ScoringService.buildFrames, including the 10th frame bonus rolls.
+     *
+     * @param bowler the bowler's pin distribution
+     * @param random the random stream to draw from
+     * @param pins   array receiving the pins of each roll
+     * @return number of rolls played
+     */
+    static int playGame(PinDistribution bowler, SplittableRandom random, int[] pins) {
+        int count = 0;
+
+        for (int frame = 0; frame < 9; frame++) {
+            int first = bowler.rollFullRack(random);
+            pins[count++] = first;
+            if (first < 10) {
+                pins[count++] = bowler.rollLeftover(10 - first, random);
+            }
+        }
+
+        // 10th frame: a strike or spare earns a bonus roll, with a fresh rack after every cleared one
+        int first = bowler.rollFullRack(random);
+        pins[count++] = first;
+        if (first == 10) {
+            int second = bowler.rollFullRack(random);
+            pins[count++] = second;
+            pins[count++] = second == 10 ? bowler.rollFullRack(random) : bowler.rollLeftover(10 - second, random);
+        } else {
+            int second = bowler.rollLeftover(10 - first, random);
+            pins[count++] = second;
+            if (first + second == 10) {
+                pins[count++] = bowler.rollFullRack(random);
+            }
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,137 @@
+package com.game.bowling.simulation;
+
+import com.game.bowling.model.Frame;
+import com.game.bowling.model.Roll;
+import com.game.bowling.service.ScoringService;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Represents how many pins a bowler tends to knock down on each roll.
+ * It holds one distribution for a ball thrown at a full rack (first ball, or a fresh rack in the 10th frame)
+ * and, for every number of pins still standing, a distribution for the ball thrown at the leftover pins.
+ *
+ * Instances are immutable and can be shared between simulation threads.
+ */
+public class PinDistribution {
+
+    // Cumulative probabilities of knocking down 0..10 pins with a full rack
+    private final double[] fullRack;
+
+    // leftover[s] holds cumulative probabilities of knocking down 0..s pins when s pins are standing
+    private final double[][] leftover;
+
+    /**
+     * Constructs a PinDistribution from observed roll counts.
+     * A row without any observations falls back to an even chance for every possible pin count.
+     *
+     * @param fullRackCounts  fullRackCounts[p] is how often p pins were knocked down from a full rack (11 entries)
+     * @param leftoverCounts  leftoverCounts[s][p] is how often p pins were knocked down with s pins standing
+     *                        (11 rows, row s has at least s + 1 entries; row 0 is ignored)
+     */
+    public PinDistribution(long[] fullRackCounts, long[][] leftoverCounts) {
+        if (fullRackCounts.length != 11 || leftoverCounts.length != 11) {
+            throw new IllegalArgumentException("Expected counts for 0 to 10 pins");
+        }
+        this.fullRack = toCumulative(fullRackCounts, 10);
+        this.leftover = new double[11][];
+        for (int standing = 1; standing <= 10; standing++) {
+            leftover[standing] = toCumulative(leftoverCounts[standing], standing);
+        }
+    }
+
+    /**
+     * Builds a PinDistribution from a bowler's past games.
+     * Frames are segmented with the ScoringService so each roll is counted as either a full-rack
+     * or a leftover ball, including the fresh racks of the 10th frame.
+     *
+     * @param games          the bowler's recorded games
+     * @param scoringService the ScoringService used to build frames
+     * @return the observed pin distribution
+     */
+    public static PinDistribution fromGames(List<List<Roll>> games, ScoringService scoringService) {
+        long[] fullRackCounts = new long[11];
+        long[][] leftoverCounts = new long[11][11];
+
+        for (List<Roll> game : games) {
+            for (Frame frame : scoringService.buildFrames(game)) {
+                int standing = 0; // 0 means the next ball is thrown at a fresh rack
+                for (Roll roll : frame.getRolls()) {
+                    int pins = roll.getValue();
+                    if (standing == 0) {
+                        fullRackCounts[pins]++;
+                        standing = 10 - pins;
+                    } else {
+                        leftoverCounts[standing][Math.min(pins, standing)]++;
+                        standing = 0;
+                    }
+                }
+            }
+        }
+
+        return new PinDistribution(fullRackCounts, leftoverCounts);
+    }
+
+    /**
+     * Draws the pins knocked down by a ball thrown at a full rack.
+     *
+     * @param random the random stream of the calling thread
+     * @return pins knocked down (0-10)
+     */
+    public int rollFullRack(SplittableRandom random) {
+        return sample(fullRack, random.nextDouble());
+    }
+
+    /**
+     * Draws the pins knocked down by a ball thrown at the pins left standing.
+     *
+     * @param standing number of pins still standing (1-10)
+     * @param random   the random stream of the calling thread
+     * @return pins knocked down (0 to standing)
+     */
+    public int rollLeftover(int standing, SplittableRandom random) {
+        return sample(leftover[standing], random.nextDouble());
+    }
+
+    /**
+     * Converts counts for 0..maxPins into cumulative probabilities.
+     *
+     * @param counts  observed counts, only the first maxPins + 1 entries are used
+     * @param maxPins highest possible pin count
+     * @return cumulative probabilities, the last entry being 1
+     */
+    private static double[] toCumulative(long[] counts, int maxPins) {
+        double[] cumulative = new double[maxPins + 1];
+        long total = 0;
+        for (int p = 0; p <= maxPins; p++) {
+            if (counts[p] < 0) {
+                throw new IllegalArgumentException("Counts must not be negative: " + counts[p]);
+            }
+            total += counts[p];
+        }
+
+        double running = 0;
+        for (int p = 0; p <= maxPins; p++) {
+            running += total == 0 ? 1.0 / (maxPins + 1) : (double) counts[p] / total;
+            cumulative[p] = running;
+        }
+        cumulative[maxPins] = 1.0; // guard against rounding
+        return cumulative;
+    }
+
+    /**
+     * Returns the first pin count whose cumulative probability exceeds u.
+     *
+     * @param cumulative cumulative probabilities
+     * @param u          a uniform value in [0, 1)
+     * @return sampled pin count
+     */
+    private static int sample(double[] cumulative, double u) {
+        int p = 0;
+        while (u >= cumulative[p]) {
+            p++;
+        }
+        return p;
+    }
+}
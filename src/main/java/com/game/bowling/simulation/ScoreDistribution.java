@@ -0,0 +1,150 @@
+package com.game.bowling.simulation;
+
+/**
+ * Holds how often each final score (0-300) occurred in a set of simulated games.
+ * Provides summary statistics, percentiles and head-to-head probabilities against another distribution.
+ */
+public class ScoreDistribution {
+
+    /** Highest possible score of a game. */
+    public static final int MAX_SCORE = 300;
+
+    // histogram[s] is the number of games that scored s
+    private final long[] histogram;
+
+    // Total number of games
+    private final long games;
+
+    /**
+     * Constructs a ScoreDistribution from a histogram of scores.
+     * Defensive copy is made to protect internal state.
+     *
+     * @param histogram number of games per score, with MAX_SCORE + 1 entries
+     */
+    public ScoreDistribution(long[] histogram) {
+        if (histogram.length != MAX_SCORE + 1) {
+            throw new IllegalArgumentException("Expected " + (MAX_SCORE + 1) + " scores, got " + histogram.length);
+        }
+        this.histogram = histogram.clone();
+        long sum = 0;
+        for (long count : histogram) {
+            sum += count;
+        }
+        this.games = sum;
+    }
+
+    /**
+     * Returns the number of games in the distribution.
+     *
+     * @return number of games
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Returns how many games ended with the given score.
+     *
+     * @param score a score between 0 and 300
+     * @return number of games with that score
+     */
+    public long getCount(int score) {
+        return histogram[score];
+    }
+
+    /**
+     * Returns the average score, or 0 if there are no games.
+     *
+     * @return mean score
+     */
+    public double getMean() {
+        if (games == 0) {
+            return 0;
+        }
+        double sum = 0;
+        for (int s = 0; s <= MAX_SCORE; s++) {
+            sum += (double) s * histogram[s];
+        }
+        return sum / games;
+    }
+
+    /**
+     * Returns the smallest score such that at least the given share of games scored at most that much.
+     *
+     * @param percentile a value between 0 and 100 (e.g. 50 for the median)
+     * @return score at the percentile
+     */
+    public int getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (games == 0) {
+            throw new IllegalStateException("No games in distribution");
+        }
+
+        double target = percentile / 100.0 * games;
+        long running = 0;
+        for (int s = 0; s <= MAX_SCORE; s++) {
+            running += histogram[s];
+            if (running >= target && running > 0) {
+                return s;
+            }
+        }
+        return MAX_SCORE;
+    }
+
+    /**
+     * Returns the probability that a game drawn from this distribution scores higher than
+     * an independent game drawn from the other distribution.
+     *
+     * @param other the opponent's distribution
+     * @return probability of winning
+     */
+    public double probabilityOfBeating(ScoreDistribution other) {
+        checkNotEmpty(other);
+        double wins = 0;
+        long below = 0; // opponent games scoring less than s
+        for (int s = 0; s <= MAX_SCORE; s++) {
+            wins += (double) histogram[s] * below;
+            below += other.histogram[s];
+        }
+        return wins / ((double) games * other.games);
+    }
+
+    /**
+     * Returns the probability that a game drawn from this distribution has the same score as
+     * an independent game drawn from the other distribution.
+     *
+     * @param other the opponent's distribution
+     * @return probability of a tie
+     */
+    public double probabilityOfTie(ScoreDistribution other) {
+        checkNotEmpty(other);
+        double ties = 0;
+        for (int s = 0; s <= MAX_SCORE; s++) {
+            ties += (double) histogram[s] * other.histogram[s];
+        }
+        return ties / ((double) games * other.games);
+    }
+
+    /**
+     * Throws if either distribution has no games.
+     *
+     * @param other the opponent's distribution
+     */
+    private void checkNotEmpty(ScoreDistribution other) {
+        if (games == 0 || other.games == 0) {
+            throw new IllegalStateException("No games in distribution");
+        }
+    }
+
+    /**
+     * Returns a short summary of the distribution.
+     *
+     * @return string in the format "ScoreDistribution(games=n, mean=m)"
+     */
+    @Override
+    public String toString() {
+        return "ScoreDistribution(games=" + games + ", mean=" + String.format("%.2f", getMean()) + ")";
+    }
+}
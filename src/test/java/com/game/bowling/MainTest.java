@@ -1,9 +1,14 @@
 package com.game.bowling;
 
+import com.game.bowling.persistence.CompletedGame;
+import com.game.bowling.persistence.GameJournal;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -50,4 +55,21 @@ public class MainTest {
         assertTrue(output.contains("Frame 1:"));
         assertTrue(output.contains("Total Score: 167"));
     }
-}
\ No newline at end of file
+
+    /**
+     * Test that passing a journal path stores the completed game in the audit journal.
+     */
+    @Test
+    public void testMain_writesJournal(@TempDir Path dir) throws Exception {
+        String input = "10 7 3 9 0 10 0 8 8 2 0 6 10 10 10 8 1\n";
+        System.setIn(new ByteArrayInputStream(input.getBytes()));
+        Path file = dir.resolve("games.journal");
+
+        Main.main(new String[]{file.toString()});
+
+        List<CompletedGame> games = GameJournal.readAll(file);
+        assertEquals(1, games.size());
+        assertEquals(167, games.get(0).getTotalScore());
+        assertEquals(10, games.get(0).getFrames().size());
+    }
+}
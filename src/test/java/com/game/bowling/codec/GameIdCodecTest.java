@@ -0,0 +1,109 @@
+package com.game.bowling.codec;
+
+import com.game.bowling.model.Roll;
+import com.game.bowling.service.ScoringService;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GameIdCodec class.
+ * These tests verify that game IDs are dense, round-trip to the same rolls,
+ * keep the order of roll sequences and can be scored directly.
+ */
+public class GameIdCodecTest {
+
+    private final ScoringService service = new ScoringService();
+    private final GameIdCodec codec = new GameIdCodec(service);
+
+    /**
+     * Test that the lowest and highest games map to the ends of the ID range.
+     */
+    @Test
+    public void testEncode_firstAndLastGame() {
+        List<Roll> gutterGame = IntStream.range(0, 20).mapToObj(i -> new Roll(0)).collect(Collectors.toList());
+        List<Roll> perfectGame = IntStream.range(0, 12).mapToObj(i -> new Roll(10)).collect(Collectors.toList());
+
+        assertEquals(0, codec.encode(gutterGame));
+        assertEquals(GameIdCodec.GAME_COUNT - 1, codec.encode(perfectGame));
+        assertEquals(300, codec.score(GameIdCodec.GAME_COUNT - 1));
+    }
+
+    /**
+     * Test round trips and direct scoring for a typical game and every kind of 10th frame.
+     */
+    @Test
+    public void testEncodeDecode_roundTrip() {
+        List<List<Integer>> games = List.of(
+            List.of(10, 7, 3, 9, 0, 10, 0, 8, 8, 2, 0, 6, 10, 10, 10, 8, 1),
+            List.of(5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5),
+            List.of(3, 4, 5, 2, 1, 1, 0, 6, 2, 3, 3, 3, 4, 2, 5, 1, 2, 1, 3, 4),
+            List.of(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 10, 0, 10),
+            List.of(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 10, 3, 7)
+        );
+
+        for (List<Integer> values : games) {
+            List<Roll> game = values.stream().map(Roll::new).collect(Collectors.toList());
+            long id = codec.encode(game);
+            assertEquals(game.toString(), codec.decode(id).toString());
+            assertEquals(service.calculateScore(service.buildFrames(game)), codec.score(id));
+        }
+    }
+
+    /**
+     * Test that random IDs decode to legal games that encode back to the same ID.
+     */
+    @Test
+    public void testDecodeEncode_randomIds() {
+        SplittableRandom random = new SplittableRandom(11);
+
+        for (int i = 0; i < 10000; i++) {
+            long id = random.nextLong(GameIdCodec.GAME_COUNT);
+            List<Roll> game = codec.decode(id);
+
+            assertEquals(id, codec.encode(game));
+            assertEquals(service.calculateScore(service.buildFrames(game)), codec.score(id));
+        }
+    }
+
+    /**
+     * Test that IDs follow the order of the roll sequences.
+     */
+    @Test
+    public void testEncode_preservesOrder() {
+        List<Roll> openTenth = List.of(
+            0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 9, 0
+        ).stream().map(Roll::new).collect(Collectors.toList());
+        List<Roll> spareTenth = List.of(
+            0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 9, 1, 0
+        ).stream().map(Roll::new).collect(Collectors.toList());
+
+        assertEquals(codec.encode(openTenth) + 1, codec.encode(spareTenth));
+    }
+
+    /**
+     * Test that incomplete, overlong and impossible games are rejected.
+     */
+    @Test
+    public void testEncode_invalidGames() {
+        List<Roll> incomplete = List.of(
+            10, 10, 10
+        ).stream().map(Roll::new).collect(Collectors.toList());
+        List<Roll> overlong = List.of(
+            3, 4, 5, 2, 1, 1, 0, 6, 2, 3, 3, 3, 4, 2, 5, 1, 2, 1, 3, 4, 5
+        ).stream().map(Roll::new).collect(Collectors.toList());
+        List<Roll> tooManyPins = List.of(
+            8, 8, 5, 2, 1, 1, 0, 6, 2, 3, 3, 3, 4, 2, 5, 1, 2, 1, 3, 4
+        ).stream().map(Roll::new).collect(Collectors.toList());
+
+        assertThrows(IllegalArgumentException.class, () -> codec.encode(incomplete));
+        assertThrows(IllegalArgumentException.class, () -> codec.encode(overlong));
+        assertThrows(IllegalArgumentException.class, () -> codec.encode(tooManyPins));
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(GameIdCodec.GAME_COUNT));
+    }
+}
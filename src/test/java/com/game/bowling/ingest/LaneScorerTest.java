@@ -0,0 +1,83 @@
+package com.game.bowling.ingest;
+
+import com.game.bowling.service.ScoringService;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the LaneScorer class.
+ * These tests verify running and final scores per lane when events arrive through a ring buffer.
+ */
+public class LaneScorerTest {
+
+    /**
+     * Test that interleaved events on two lanes are scored separately and a new game starts after completion.
+     */
+    @Test
+    public void testOnEvent_scoresLanes() {
+        RollEventRingBuffer ring = new RollEventRingBuffer(64, WaitStrategy.BUSY_SPIN);
+        RollEventReader reader = ring.newReader();
+        LaneScorer scorer = new LaneScorer(2, new ScoringService());
+
+        int[] game = {10, 7, 3, 9, 0, 10, 0, 8, 8, 2, 0, 6, 10, 10, 10, 8, 1};
+        for (int pins : game) {
+            ring.publish(0, pins, 0);
+            ring.publish(1, 5, 0);
+        }
+        ring.publish(0, 4, 0);
+        ring.publish(0, 5, 0);
+        reader.poll(scorer);
+
+        assertEquals(1, scorer.getCompletedGames(0));
+        assertEquals(167, scorer.getLastCompletedScore(0));
+        assertEquals(9, scorer.getCurrentScore(0));
+
+        // 17 fives on lane 1: 8 spares, and frame 9 is not built yet so the 8th spare has no bonus
+        assertEquals(0, scorer.getCompletedGames(1));
+        assertEquals(7 * 15 + 10, scorer.getCurrentScore(1));
+    }
+
+    /**
+     * Test that a game only completes once the 10th frame has its bonus rolls.
+     */
+    @Test
+    public void testOnEvent_tenthFrameBonusRolls() {
+        LaneScorer scorer = new LaneScorer(1, new ScoringService());
+        RollEvent event = new RollEvent();
+
+        for (int i = 0; i < 11; i++) {
+            event.set(0, 10, 0);
+            scorer.onEvent(event, i, true);
+        }
+        // The 10th frame is a lone strike until both bonus rolls are in
+        assertEquals(0, scorer.getCompletedGames(0));
+        assertEquals(270, scorer.getCurrentScore(0));
+
+        event.set(0, 10, 0);
+        scorer.onEvent(event, 11, true);
+        event.set(0, 7, 0);
+        scorer.onEvent(event, 12, true);
+
+        assertEquals(1, scorer.getCompletedGames(0));
+        assertEquals(300, scorer.getLastCompletedScore(0));
+        assertEquals(0, scorer.getCurrentScore(0));
+    }
+
+    /**
+     * Test that events for an unknown lane or with an invalid pin count are skipped.
+     */
+    @Test
+    public void testOnEvent_rejectsInvalidEvents() {
+        LaneScorer scorer = new LaneScorer(1, new ScoringService());
+        RollEvent event = new RollEvent();
+
+        event.set(3, 5, 0);
+        scorer.onEvent(event, 0, true);
+        event.set(0, 11, 0);
+        scorer.onEvent(event, 1, true);
+
+        assertEquals(2, scorer.getRejectedEvents());
+        assertEquals(0, scorer.getCurrentScore(0));
+    }
+}
@@ -0,0 +1,76 @@
+package com.game.bowling.ingest;
+
+import com.game.bowling.service.ScoringService;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Event-to-score latency benchmark for the RollEventRingBuffer (not part of the unit test run).
+ * A sensor thread publishes bursts of roll events across several lanes; a consumer thread drains them
+ * into a LaneScorer and records, per event, the time from publishing until the lane's score was updated.
+ *
+ * Run with:
+ * mvn test-compile exec:java -Dexec.mainClass="com.game.bowling.ingest.RingBufferLatencyBenchmark" -Dexec.classpathScope=test -Dexec.args="BUSY_SPIN"
+ */
+public class RingBufferLatencyBenchmark {
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args optionally the wait strategy name and the number of measured events
+     */
+    public static void main(String[] args) throws Exception {
+        WaitStrategy waitStrategy = args.length > 0 ? WaitStrategy.valueOf(args[0]) : WaitStrategy.BUSY_SPIN;
+        int events = args.length > 1 ? Integer.parseInt(args[1]) : 2_000_000;
+        int warmup = events / 4;
+        int lanes = 32;
+        int burst = 8;
+
+        RollEventRingBuffer ring = new RollEventRingBuffer(1024, waitStrategy);
+        RollEventReader reader = ring.newReader();
+        LaneScorer scorer = new LaneScorer(lanes, new ScoringService());
+        long[] latencies = new long[warmup + events];
+
+        Thread consumer = new Thread(() -> {
+            int[] handled = {0};
+            RollEventHandler handler = (event, sequence, endOfBatch) -> {
+                scorer.onEvent(event, sequence, endOfBatch);
+                latencies[handled[0]++] = System.nanoTime() - event.getTimestamp();
+            };
+            while (handled[0] < latencies.length) {
+                reader.drain(handler);
+            }
+        });
+        consumer.start();
+
+        // A bowler who never leaves more than 10 pins: first ball 0-10, second ball within the leftover pins
+        SplittableRandom random = new SplittableRandom(1);
+        int[] standing = new int[lanes];
+        for (int i = 0; i < latencies.length; i++) {
+            int lane = random.nextInt(lanes);
+            int pins;
+            if (standing[lane] == 0) {
+                pins = random.nextInt(11);
+                standing[lane] = pins == 10 ? 0 : 10 - pins;
+            } else {
+                pins = random.nextInt(standing[lane] + 1);
+                standing[lane] = 0;
+            }
+            ring.publish(lane, pins, System.nanoTime());
+            if (i % burst == burst - 1) {
+                LockSupport.parkNanos(20_000); // gap between sensor bursts
+            }
+        }
+        consumer.join();
+
+        long[] measured = Arrays.copyOfRange(latencies, warmup, latencies.length);
+        Arrays.sort(measured);
+        System.out.printf("Wait strategy: %s, events: %,d%n", waitStrategy, events);
+        System.out.printf("p50:   %,d ns%n", measured[(int) (measured.length * 0.50)]);
+        System.out.printf("p99:   %,d ns%n", measured[(int) (measured.length * 0.99)]);
+        System.out.printf("p99.9: %,d ns%n", measured[(int) (measured.length * 0.999)]);
+        System.out.printf("max:   %,d ns%n", measured[measured.length - 1]);
+    }
+}
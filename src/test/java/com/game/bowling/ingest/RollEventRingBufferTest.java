@@ -0,0 +1,121 @@
+package com.game.bowling.ingest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the RollEventRingBuffer and RollEventReader classes.
+ * These tests verify batch draining, independent readers, and that the writer
+ * never overwrites events a reader has not handled when the buffer wraps.
+ */
+public class RollEventRingBufferTest {
+
+    // First mismatch seen by a reader thread, asserted on the test thread
+    private final AtomicReference<String> readerFailure = new AtomicReference<>();
+
+    /**
+     * Test that poll hands over every published event in one batch, in order.
+     */
+    @Test
+    public void testPoll_batch() {
+        RollEventRingBuffer ring = new RollEventRingBuffer(8, WaitStrategy.BUSY_SPIN);
+        RollEventReader reader = ring.newReader();
+        List<String> seen = new ArrayList<>();
+
+        assertEquals(0, reader.poll((event, sequence, endOfBatch) -> seen.add("x")));
+        ring.publish(0, 10, 0);
+        ring.publish(1, 7, 0);
+        ring.publish(0, 3, 0);
+
+        int handled = reader.poll((event, sequence, endOfBatch) ->
+            seen.add(sequence + ":" + event.getLane() + ":" + event.getPins() + (endOfBatch ? "!" : "")));
+
+        assertEquals(3, handled);
+        assertEquals(List.of("0:0:10", "1:1:7", "2:0:3!"), seen);
+        assertEquals(2, reader.getSequence());
+    }
+
+    /**
+     * Test that a size other than a power of two is rejected.
+     */
+    @Test
+    public void testConstructor_invalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new RollEventRingBuffer(6, WaitStrategy.YIELD));
+    }
+
+    /**
+     * Test that two readers on their own threads both see every event while the buffer wraps many times.
+     */
+    @Test
+    public void testReaders_seeAllEventsAcrossWraps() throws Exception {
+        int events = 100_000;
+        RollEventRingBuffer ring = new RollEventRingBuffer(16, WaitStrategy.YIELD);
+        long[] sums = new long[2];
+        Thread[] threads = new Thread[2];
+
+        for (int r = 0; r < 2; r++) {
+            RollEventReader reader = ring.newReader();
+            int id = r;
+            threads[r] = new Thread(() -> {
+                long[] expected = {0};
+                while (expected[0] < events) {
+                    reader.drain((event, sequence, endOfBatch) -> {
+                        // Keep reading after a mismatch so the writer is never left waiting for this reader
+                        if (sequence != expected[0] || event.getPins() != (int) (sequence % 11)) {
+                            readerFailure.compareAndSet(null, "Reader " + id + " expected sequence " + expected[0]
+                                + " but got sequence " + sequence + " with " + event.getPins() + " pins");
+                        }
+                        sums[id] += event.getPins();
+                        expected[0]++;
+                    });
+                }
+            });
+            threads[r].start();
+        }
+
+        long expectedSum = 0;
+        for (int i = 0; i < events; i++) {
+            ring.publish(0, i % 11, System.nanoTime());
+            expectedSum += i % 11;
+        }
+        for (Thread thread : threads) {
+            thread.join(10_000);
+        }
+
+        assertNull(readerFailure.get(), readerFailure.get());
+        for (Thread thread : threads) {
+            assertFalse(thread.isAlive());
+        }
+        assertEquals(expectedSum, sums[0]);
+        assertEquals(expectedSum, sums[1]);
+    }
+
+    /**
+     * Test that the writer waits for a reader instead of overwriting unread slots.
+     */
+    @Test
+    public void testNext_waitsForSlowReader() throws Exception {
+        RollEventRingBuffer ring = new RollEventRingBuffer(4, WaitStrategy.PARK);
+        RollEventReader reader = ring.newReader();
+        for (int i = 0; i < 4; i++) {
+            ring.publish(0, i, 0);
+        }
+
+        Thread writer = new Thread(() -> ring.publish(0, 9, 0));
+        writer.start();
+        writer.join(100);
+        assertTrue(writer.isAlive(), "Writer should wait while the buffer is full");
+        assertEquals(3, ring.getCursor());
+
+        List<Integer> pins = new ArrayList<>();
+        reader.poll((event, sequence, endOfBatch) -> pins.add(event.getPins()));
+        writer.join(10_000);
+        reader.drain((event, sequence, endOfBatch) -> pins.add(event.getPins()));
+
+        assertEquals(List.of(0, 1, 2, 3, 9), pins);
+    }
+}
@@ -0,0 +1,72 @@
+package com.game.bowling.persistence;
+
+import com.game.bowling.model.Frame;
+import com.game.bowling.model.Roll;
+import com.game.bowling.service.ScoringService;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Throughput benchmark for the GameJournal (not part of the unit test run).
+ * Several producer threads append the same completed game as fast as they can; the benchmark reports
+ * how long append takes on the caller's thread and how many games per second reach the disk.
+ *
+ * Run with:
+ * mvn test-compile exec:java -Dexec.mainClass="com.game.bowling.persistence.GameJournalBenchmark" -Dexec.classpathScope=test
+ */
+public class GameJournalBenchmark {
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args optionally the number of producer threads and the number of games per producer
+     */
+    public static void main(String[] args) throws Exception {
+        int producers = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int gamesPerProducer = args.length > 1 ? Integer.parseInt(args[1]) : 250_000;
+
+        ScoringService service = new ScoringService();
+        List<Roll> rolls = List.of(10, 7, 3, 9, 0, 10, 0, 8, 8, 2, 0, 6, 10, 10, 10, 8, 1)
+                               .stream().map(Roll::new).collect(Collectors.toList());
+        List<Frame> frames = service.buildFrames(rolls);
+        CompletedGame game = new CompletedGame(rolls, frames, service.calculateScore(frames));
+
+        Path file = Files.createTempFile("games", ".journal");
+        long[] appendNanos = new long[producers];
+        long start = System.nanoTime();
+
+        try (GameJournal journal = new GameJournal(file, 65_536, 4_096, Duration.ofMillis(10), BackpressurePolicy.BLOCK)) {
+            Thread[] threads = new Thread[producers];
+            for (int p = 0; p < producers; p++) {
+                int id = p;
+                threads[p] = new Thread(() -> {
+                    long t0 = System.nanoTime();
+                    for (int i = 0; i < gamesPerProducer; i++) {
+                        journal.append(game);
+                    }
+                    appendNanos[id] = System.nanoTime() - t0;
+                });
+                threads[p].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        long games = (long) producers * gamesPerProducer;
+        long appendTotal = 0;
+        for (long nanos : appendNanos) {
+            appendTotal += nanos;
+        }
+
+        System.out.printf("Games written:        %,d (%,d bytes)%n", games, Files.size(file));
+        System.out.printf("Throughput:           %,.0f games/s%n", games / (elapsed / 1e9));
+        System.out.printf("Mean append latency:  %.0f ns%n", (double) appendTotal / games);
+        Files.delete(file);
+    }
+}
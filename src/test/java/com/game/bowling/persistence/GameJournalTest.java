@@ -0,0 +1,207 @@
+package com.game.bowling.persistence;
+
+import com.game.bowling.model.Frame;
+import com.game.bowling.model.Roll;
+import com.game.bowling.service.ScoringService;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GameJournal and CompletedGame classes.
+ * These tests verify that queued games are written in order, drained on close,
+ * rejected when the queue is full, and that a torn tail left by a crash is dropped.
+ */
+public class GameJournalTest {
+
+    @TempDir
+    Path dir;
+
+    private final ScoringService service = new ScoringService();
+
+    /**
+     * Test that a journal line can be parsed back into the same game.
+     */
+    @Test
+    public void testLineRoundTrip() {
+        List<Roll> rolls = List.of(
+            10, 7, 3, 9, 0, 10, 0, 8, 8, 2, 0, 6, 10, 10, 10, 8, 1
+        ).stream().map(Roll::new).collect(Collectors.toList());
+        List<Frame> frames = service.buildFrames(rolls);
+        CompletedGame game = new CompletedGame(rolls, frames, service.calculateScore(frames));
+
+        CompletedGame parsed = CompletedGame.fromLine(game.toLine());
+
+        assertEquals(167, parsed.getTotalScore());
+        assertEquals(game.getRolls().toString(), parsed.getRolls().toString());
+        assertEquals(game.getFrames().toString(), parsed.getFrames().toString());
+        assertThrows(IllegalArgumentException.class, () -> CompletedGame.fromLine(game.toLine().replace("167", "168")));
+    }
+
+    /**
+     * Test that close drains every queued game to the file, in order.
+     */
+    @Test
+    public void testClose_drainsQueue() throws Exception {
+        Path file = dir.resolve("games.journal");
+
+        try (GameJournal journal = new GameJournal(file, 10_000, 64, Duration.ofSeconds(10), BackpressurePolicy.BLOCK)) {
+            for (int i = 0; i < 1000; i++) {
+                List<Roll> rolls = List.of(
+                    i % 10, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0
+                ).stream().map(Roll::new).collect(Collectors.toList());
+                List<Frame> frames = service.buildFrames(rolls);
+                assertTrue(journal.append(new CompletedGame(rolls, frames, service.calculateScore(frames))));
+            }
+        }
+
+        List<CompletedGame> games = GameJournal.readAll(file);
+        assertEquals(1000, games.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 10, games.get(i).getTotalScore());
+        }
+    }
+
+    /**
+     * Test that the REJECT policy refuses games once the queue is full, and BLOCK waits instead.
+     */
+    @Test
+    public void testAppend_backpressure() throws Exception {
+        List<Roll> rolls = List.of(
+            3, 4, 5, 2, 1, 1, 0, 6, 2, 3, 3, 3, 4, 2, 5, 1, 2, 1, 3, 4
+        ).stream().map(Roll::new).collect(Collectors.toList());
+        List<Frame> frames = service.buildFrames(rolls);
+        CompletedGame game = new CompletedGame(rolls, frames, service.calculateScore(frames));
+
+        // Hold the writer so it cannot drain the queue while it fills
+        try (GameJournal journal = new GameJournal(dir.resolve("reject.journal"), 5, 100, Duration.ofSeconds(10), BackpressurePolicy.REJECT)) {
+            journal.holdWriter();
+            for (int i = 0; i < 5; i++) {
+                assertTrue(journal.append(game));
+            }
+            assertFalse(journal.append(game));
+            assertEquals(1, journal.getRejectedGames());
+        }
+
+        Path blocking = dir.resolve("block.journal");
+        try (GameJournal journal = new GameJournal(blocking, 5, 2, Duration.ofMillis(1), BackpressurePolicy.BLOCK)) {
+            for (int i = 0; i < 100; i++) {
+                assertTrue(journal.append(game));
+            }
+        }
+        assertEquals(100, GameJournal.readAll(blocking).size());
+    }
+
+    /**
+     * Test that readAll stops at a line torn by a crash.
+     */
+    @Test
+    public void testReadAll_stopsAtTornLine() throws Exception {
+        Path file = dir.resolve("torn.journal");
+        List<Roll> rolls = List.of(
+            10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10
+        ).stream().map(Roll::new).collect(Collectors.toList());
+        List<Frame> frames = service.buildFrames(rolls);
+        String line = new CompletedGame(rolls, frames, service.calculateScore(frames)).toLine();
+        Files.writeString(file, line + line.substring(0, line.length() / 2), StandardCharsets.US_ASCII);
+
+        assertEquals(1, GameJournal.readAll(file).size());
+    }
+
+    /**
+     * Test that reopening a journal after a crash cuts off the torn line, so games appended
+     * after the restart are read back instead of being lost behind it.
+     */
+    @Test
+    public void testReopen_afterCrash() throws Exception {
+        Path file = dir.resolve("crash.journal");
+        List<Roll> rolls = List.of(
+            10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10
+        ).stream().map(Roll::new).collect(Collectors.toList());
+        List<Frame> frames = service.buildFrames(rolls);
+        CompletedGame game = new CompletedGame(rolls, frames, service.calculateScore(frames));
+        String line = game.toLine();
+        Files.writeString(file, line + line.substring(0, line.length() / 2), StandardCharsets.US_ASCII);
+
+        try (GameJournal journal = new GameJournal(file, 10, 10, Duration.ofMillis(10), BackpressurePolicy.BLOCK)) {
+            for (int i = 0; i < 5; i++) {
+                assertTrue(journal.append(game));
+            }
+        }
+
+        List<CompletedGame> games = GameJournal.readAll(file);
+        assertEquals(6, games.size());
+        assertEquals(line.repeat(6), Files.readString(file, StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Test that reopening a journal truncates it at a damaged line in the middle of the file,
+     * so games appended after the restart are read back.
+     */
+    @Test
+    public void testReopen_damagedMiddleLine() throws Exception {
+        Path file = dir.resolve("damaged.journal");
+        List<Roll> rolls = List.of(
+            10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10
+        ).stream().map(Roll::new).collect(Collectors.toList());
+        List<Frame> frames = service.buildFrames(rolls);
+        CompletedGame game = new CompletedGame(rolls, frames, service.calculateScore(frames));
+        String line = game.toLine();
+        // A batch only partly persisted: the middle of the second line never reached the disk
+        String damaged = line.substring(0, 5) + "\0\0\0\0" + line.substring(9);
+        Files.writeString(file, line + damaged + line, StandardCharsets.US_ASCII);
+
+        try (GameJournal journal = new GameJournal(file, 10, 10, Duration.ofMillis(10), BackpressurePolicy.BLOCK)) {
+            assertTrue(journal.append(game));
+            assertTrue(journal.append(game));
+        }
+
+        assertEquals(3, GameJournal.readAll(file).size());
+        assertEquals(line.repeat(3), Files.readString(file, StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Test that a torn tail holding non-ASCII bytes ends the read instead of failing it.
+     */
+    @Test
+    public void testReadAll_nonAsciiTornTail() throws Exception {
+        Path file = dir.resolve("garbage.journal");
+        List<Roll> rolls = List.of(
+            10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10
+        ).stream().map(Roll::new).collect(Collectors.toList());
+        List<Frame> frames = service.buildFrames(rolls);
+        byte[] line = new CompletedGame(rolls, frames, service.calculateScore(frames)).toLine().getBytes(StandardCharsets.US_ASCII);
+        byte[] content = Arrays.copyOf(line, line.length * 2);
+        Arrays.fill(content, line.length, content.length, (byte) 0xC3);
+        content[content.length - 1] = '\n';
+        Files.write(file, content);
+
+        assertEquals(1, GameJournal.readAll(file).size());
+    }
+
+    /**
+     * Test that appending after close is refused.
+     */
+    @Test
+    public void testAppend_afterClose() throws Exception {
+        GameJournal journal = new GameJournal(dir.resolve("closed.journal"), 10, 10, Duration.ofMillis(10), BackpressurePolicy.BLOCK);
+        journal.close();
+
+        List<Roll> rolls = List.of(
+            10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10
+        ).stream().map(Roll::new).collect(Collectors.toList());
+        List<Frame> frames = service.buildFrames(rolls);
+        CompletedGame game = new CompletedGame(rolls, frames, service.calculateScore(frames));
+
+        assertThrows(IllegalStateException.class, () -> journal.append(game));
+    }
+}
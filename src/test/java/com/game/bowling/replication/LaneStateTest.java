@@ -0,0 +1,90 @@
+package com.game.bowling.replication;
+
+import com.game.bowling.service.ScoringService;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the LaneState and RollDelta classes.
+ * These tests verify frame indexes of recorded rolls, that applying deltas reproduces
+ * the primary's state, and that gaps or diverging replicas are detected.
+ */
+public class LaneStateTest {
+
+    private final ScoringService service = new ScoringService();
+
+    /**
+     * Test that recorded rolls carry their frame index and a new game starts after a complete one.
+     */
+    @Test
+    public void testRecord_frameIndexes() {
+        LaneState state = new LaneState(1, service);
+
+        assertEquals(0, state.record(0, 10).getFrameIndex());
+        assertEquals(1, state.record(0, 7).getFrameIndex());
+        assertEquals(1, state.record(0, 3).getFrameIndex());
+        for (int i = 0; i < 7; i++) {
+            state.record(0, 10);
+        }
+        RollDelta tenth = state.record(0, 10);
+        assertEquals(9, tenth.getFrameIndex());
+        assertEquals(9, state.record(0, 10).getFrameIndex());
+        assertEquals(9, state.record(0, 10).getFrameIndex());
+
+        RollDelta nextGame = state.record(0, 4);
+        assertEquals(0, nextGame.getFrameIndex());
+        assertEquals(14, nextGame.getSequence());
+    }
+
+    /**
+     * Test that applying the primary's deltas gives the standby the same state.
+     */
+    @Test
+    public void testApply_reproducesState() {
+        LaneState primary = new LaneState(2, service);
+        LaneState standby = new LaneState(2, service);
+        int[] game = {10, 7, 3, 9, 0, 10, 0, 8, 8, 2, 0, 6, 10, 10, 10, 8, 1, 3, 5};
+
+        for (int pins : game) {
+            standby.apply(primary.record(0, pins));
+            standby.apply(primary.record(1, 10 - pins));
+        }
+
+        assertEquals(primary.getLastSequence(), standby.getLastSequence());
+        for (int lane = 0; lane < 2; lane++) {
+            assertEquals(primary.getRolls(lane).toString(), standby.getRolls(lane).toString());
+            assertEquals(primary.getScore(lane), standby.getScore(lane));
+        }
+        assertEquals(8, standby.getScore(0));
+    }
+
+    /**
+     * Test that a missing delta and a delta with the wrong frame index are rejected.
+     */
+    @Test
+    public void testApply_rejectsGapAndDivergence() {
+        LaneState standby = new LaneState(1, service);
+
+        assertThrows(IllegalStateException.class, () -> standby.apply(new RollDelta(2, 0, 0, 5)));
+        assertThrows(IllegalStateException.class, () -> standby.apply(new RollDelta(1, 0, 3, 5)));
+    }
+
+    /**
+     * Test that a delta survives its 12-byte wire format.
+     */
+    @Test
+    public void testRollDelta_wireFormat() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new RollDelta(123456789L, 40, 9, 10).writeTo(new DataOutputStream(bytes));
+
+        assertEquals(RollDelta.ENCODED_SIZE, bytes.size());
+        RollDelta read = RollDelta.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals("RollDelta(#123456789 lane=40 frame=9 pins=10)", read.toString());
+    }
+}
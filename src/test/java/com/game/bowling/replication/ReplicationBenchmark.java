@@ -0,0 +1,175 @@
+package com.game.bowling.replication;
+
+import com.game.bowling.service.ScoringService;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replication lag and throughput benchmark (not part of the unit test run).
+ * Starts the standby in a second JVM process, replicates rolls from this process at a fixed rate and then
+ * as fast as possible, and reports the time from recordRoll until the standby acknowledged each roll.
+ * Finally the standby takes over and its state is compared with the primary's.
+ *
+ * Run with:
+ * mvn test-compile exec:java -Dexec.mainClass="com.game.bowling.replication.ReplicationBenchmark" -Dexec.classpathScope=test -Dexec.args="5000 5"
+ */
+public class ReplicationBenchmark {
+
+    private static final int LANES = 32;
+
+    /**
+     * Runs the benchmark, or the standby process when the first argument is "standby".
+     *
+     * @param args the target rate in rolls per second and the duration in seconds, or "standby"
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("standby")) {
+            runStandby();
+            return;
+        }
+        int rate = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        Process process = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                ReplicationBenchmark.class.getName(), "standby")
+            .redirectError(ProcessBuilder.Redirect.INHERIT)
+            .start();
+        BufferedReader fromStandby = new BufferedReader(new InputStreamReader(process.getInputStream()));
+        PrintWriter toStandby = new PrintWriter(process.getOutputStream(), true);
+        int port = Integer.parseInt(fromStandby.readLine());
+
+        LaneState state = new LaneState(LANES, new ScoringService());
+        int paced = rate * seconds;
+        int unpaced = Math.max(paced, 200_000);
+        long[] sentAt = new long[paced + unpaced + 1];
+        long[] lag = new long[paced + unpaced + 1];
+
+        try (ReplicationPrimary primary = new ReplicationPrimary(state,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024, 65_536, Duration.ofSeconds(10))) {
+            // Sequences whose lag the monitor has filled in; publishing it hands the lag entries to the main thread
+            AtomicLong measured = new AtomicLong();
+            Thread ackMonitor = new Thread(() -> {
+                long seen = 0;
+                while (seen < sentAt.length - 1) {
+                    long acked = primary.getLastAckedSequence();
+                    long now = System.nanoTime();
+                    for (long s = seen + 1; s <= acked; s++) {
+                        lag[(int) s] = now - sentAt[(int) s];
+                    }
+                    seen = Math.max(seen, acked);
+                    measured.set(seen);
+                    Thread.onSpinWait();
+                }
+            });
+            ackMonitor.setDaemon(true);
+            ackMonitor.start();
+
+            SplittableRandom random = new SplittableRandom(1);
+            int[] standing = new int[LANES];
+            long interval = 1_000_000_000L / rate;
+            long next = System.nanoTime();
+
+            for (int i = 0; i < paced; i++) {
+                while (System.nanoTime() < next) {
+                    LockSupport.parkNanos(Math.max(1, next - System.nanoTime() - 50_000));
+                }
+                next += interval;
+                record(primary, state, random, standing, sentAt);
+            }
+            awaitMeasured(primary, measured, paced, 30);
+            report("Paced " + rate + " rolls/s", Arrays.copyOfRange(lag, 1, paced + 1));
+
+            long start = System.nanoTime();
+            for (int i = 0; i < unpaced; i++) {
+                record(primary, state, random, standing, sentAt);
+            }
+            awaitMeasured(primary, measured, paced + unpaced, 60);
+            long elapsed = System.nanoTime() - start;
+            ackMonitor.join();
+            System.out.printf("Unpaced throughput: %,.0f rolls/s%n", unpaced / (elapsed / 1e9));
+            report("Unpaced", Arrays.copyOfRange(lag, paced + 1, lag.length));
+        }
+
+        toStandby.println("takeover");
+        String standbyState = fromStandby.readLine();
+        process.waitFor();
+        String primaryState = describe(state);
+        System.out.println("Primary state: " + primaryState);
+        System.out.println("Standby state: " + standbyState);
+        System.out.println(primaryState.equals(standbyState) ? "Takeover state identical" : "STATE MISMATCH");
+    }
+
+    /**
+     * Records a random legal roll and remembers when it was sent.
+     */
+    private static void record(ReplicationPrimary primary, LaneState state, SplittableRandom random, int[] standing, long[] sentAt) {
+        int lane = random.nextInt(LANES);
+        int pins = random.nextInt(standing[lane] == 0 ? 11 : standing[lane] + 1);
+        standing[lane] = standing[lane] == 0 && pins < 10 ? 10 - pins : 0;
+        // Stamp before recording: the acknowledgement may arrive before recordRoll returns
+        sentAt[(int) state.getLastSequence() + 1] = System.nanoTime();
+        primary.recordRoll(lane, pins);
+    }
+
+    /**
+     * Waits until the standby has acknowledged a sequence and the monitor has recorded the lag of every roll up to it.
+     */
+    private static void awaitMeasured(ReplicationPrimary primary, AtomicLong measured, long sequence, int seconds)
+            throws InterruptedException {
+        if (!primary.awaitAck(sequence, seconds, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Sequence " + sequence + " was not acknowledged within " + seconds + " s");
+        }
+        while (measured.get() < sequence) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Prints lag percentiles.
+     */
+    private static void report(String label, long[] lags) {
+        Arrays.sort(lags);
+        System.out.printf("%s lag: p50 %,d us, p99 %,d us, p99.9 %,d us, max %,d us%n", label,
+            lags[(int) (lags.length * 0.50)] / 1000, lags[(int) (lags.length * 0.99)] / 1000,
+            lags[(int) (lags.length * 0.999)] / 1000, lags[lags.length - 1] / 1000);
+    }
+
+    /**
+     * Summarises a lane state in one line, for comparing primary and standby.
+     */
+    private static String describe(LaneState state) {
+        StringBuilder line = new StringBuilder("sequence=" + state.getLastSequence());
+        long hash = 0;
+        for (int lane = 0; lane < state.getLanes(); lane++) {
+            hash = hash * 31 + state.getRolls(lane).toString().hashCode();
+            line.append(lane == 0 ? " scores=" : ",").append(state.getScore(lane));
+        }
+        return line.append(" rolls#=").append(hash).toString();
+    }
+
+    /**
+     * Standby process: prints its port, replicates until told to take over, then prints its state.
+     */
+    private static void runStandby() throws Exception {
+        ReplicationStandby standby = new ReplicationStandby(new LaneState(LANES, new ScoringService()), 0);
+        System.out.println(standby.getAddress().getPort());
+        System.out.flush();
+
+        new BufferedReader(new InputStreamReader(System.in)).readLine();
+        System.out.println(describe(standby.takeOver()));
+        System.out.flush();
+    }
+}
@@ -0,0 +1,126 @@
+package com.game.bowling.replication;
+
+import com.game.bowling.service.ScoringService;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ReplicationPrimary and ReplicationStandby classes.
+ * A primary and a standby run in the same JVM and talk over a loopback socket.
+ */
+public class ReplicationTest {
+
+    private final ScoringService service = new ScoringService();
+
+    /**
+     * Test that after the primary goes away the standby takes over with identical state
+     * and can continue the sequence as the new primary.
+     */
+    @Test
+    public void testTakeOver_stateMatchesPrimary() throws Exception {
+        int lanes = 4;
+        LaneState primaryState = new LaneState(lanes, service);
+        ReplicationStandby standby = new ReplicationStandby(new LaneState(lanes, service), 0);
+        SplittableRandom random = new SplittableRandom(3);
+        int[] standing = new int[lanes];
+
+        RollDelta last;
+        try (ReplicationPrimary primary = new ReplicationPrimary(primaryState, standby.getAddress(), 64,
+                1024, Duration.ofSeconds(10))) {
+            last = null;
+            for (int i = 0; i < 5000; i++) {
+                int lane = random.nextInt(lanes);
+                int pins = random.nextInt(standing[lane] == 0 ? 11 : standing[lane] + 1);
+                standing[lane] = standing[lane] == 0 && pins < 10 ? 10 - pins : 0;
+                last = primary.recordRoll(lane, pins);
+            }
+            assertTrue(primary.awaitAck(last.getSequence(), 10, TimeUnit.SECONDS));
+            assertEquals(last.getSequence(), primary.getLastAckedSequence());
+        }
+
+        LaneState takenOver = standby.takeOver();
+
+        assertEquals(5000, takenOver.getLastSequence());
+        for (int lane = 0; lane < lanes; lane++) {
+            assertEquals(primaryState.getRolls(lane).toString(), takenOver.getRolls(lane).toString());
+            assertEquals(primaryState.getScore(lane), takenOver.getScore(lane));
+        }
+        assertEquals(5001, takenOver.record(0, 0).getSequence());
+    }
+
+    /**
+     * Test that the primary refuses rolls after it is closed.
+     */
+    @Test
+    public void testRecordRoll_afterClose() throws Exception {
+        ReplicationStandby standby = new ReplicationStandby(new LaneState(1, service), 0);
+        ReplicationPrimary primary = new ReplicationPrimary(new LaneState(1, service), standby.getAddress(), 8,
+            16, Duration.ofSeconds(10));
+        primary.close();
+
+        assertThrows(IllegalStateException.class, () -> primary.recordRoll(0, 5));
+        standby.close();
+    }
+
+    /**
+     * Test that a standby that never acknowledges fails replication after the ack timeout,
+     * and that a full queue makes recordRoll wait until then instead of hanging.
+     */
+    @Test
+    public void testAckTimeout_failsReplication() throws Exception {
+        // The connection is completed by the backlog but never accepted, so nothing ever answers
+        try (ServerSocket silent = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            InetSocketAddress address = (InetSocketAddress) silent.getLocalSocketAddress();
+            LaneState state = new LaneState(1, service);
+            ReplicationPrimary primary = new ReplicationPrimary(state, address, 1, 1, Duration.ofMillis(100));
+
+            RollDelta first = primary.recordRoll(0, 5);
+            // With room for one queued delta behind the unacknowledged batch, the third roll waits
+            // until the sender gives up on the silent standby, and is then recorded unreplicated
+            primary.recordRoll(0, 0);
+            primary.recordRoll(0, 3);
+
+            assertTrue(primary.isDegraded());
+            assertFalse(primary.awaitAck(first.getSequence(), 10, TimeUnit.SECONDS));
+            assertEquals(3, state.getLastSequence());
+            assertThrows(IOException.class, primary::close);
+        }
+    }
+
+    /**
+     * Test that the primary keeps scoring after its standby dies, and that the last acknowledged
+     * sequence still marks the state the standby took over with.
+     */
+    @Test
+    public void testStandbyDies_primaryKeepsScoring() throws Exception {
+        ReplicationStandby standby = new ReplicationStandby(new LaneState(1, service), 0);
+        LaneState primaryState = new LaneState(1, service);
+        ReplicationPrimary primary = new ReplicationPrimary(primaryState, standby.getAddress(), 8, 4, Duration.ofSeconds(10));
+
+        RollDelta first = primary.recordRoll(0, 10);
+        assertTrue(primary.awaitAck(first.getSequence(), 10, TimeUnit.SECONDS));
+        LaneState takenOver = standby.takeOver();
+
+        // More rolls than the queue holds: none of them may block or fail once the standby is gone
+        RollDelta last = null;
+        for (int i = 0; i < 11; i++) {
+            last = primary.recordRoll(0, 10);
+        }
+
+        assertFalse(primary.awaitAck(last.getSequence(), 10, TimeUnit.SECONDS));
+        assertTrue(primary.isDegraded());
+        assertEquals(300, primaryState.getScore(0));
+        assertEquals(13, primary.recordRoll(0, 4).getSequence());
+        assertEquals(takenOver.getLastSequence(), primary.getLastAckedSequence());
+        assertThrows(IOException.class, primary::close);
+    }
+}
@@ -0,0 +1,178 @@
+package com.game.bowling.service;
+
+import com.game.bowling.model.Frame;
+import com.game.bowling.model.FrameRange;
+import com.game.bowling.model.Roll;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the EditableGame class.
+ * These tests verify that roll corrections give the same frames and scores
+ * as rebuilding the whole game, and that the reported frame range is correct.
+ */
+public class EditableGameTest {
+
+    private final ScoringService service = new ScoringService();
+
+    /**
+     * Asserts that the game matches a full rebuild of its current rolls.
+     */
+    private void assertMatchesFullRebuild(EditableGame game) {
+        List<Frame> expected = service.buildFrames(game.getRolls());
+        List<Frame> actual = game.getFrames();
+
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(service.calculateScore(expected), game.getTotalScore());
+    }
+
+    /**
+     * Test that the initial game has the same score as calculateScore, with running totals per frame.
+     */
+    @Test
+    public void testInitialScore() {
+        List<Roll> rolls = List.of(
+            10, 7, 3, 9, 0, 10, 0, 8, 8, 2, 0, 6, 10, 10, 10, 8, 1
+        ).stream().map(Roll::new).collect(Collectors.toList());
+        EditableGame game = new EditableGame(rolls, service);
+
+        assertEquals(167, game.getTotalScore());
+        assertEquals(20, game.getCumulativeScore(0));
+        assertEquals(39, game.getCumulativeScore(1));
+        assertMatchesFullRebuild(game);
+    }
+
+    /**
+     * Test that replacing a roll only reports frames from two frames before the edit onward.
+     */
+    @Test
+    public void testReplaceRoll() {
+        List<Roll> rolls = List.of(
+            10, 7, 3, 9, 0, 10, 0, 8, 8, 2, 0, 6, 10, 10, 10, 8, 1
+        ).stream().map(Roll::new).collect(Collectors.toList());
+        EditableGame game = new EditableGame(rolls, service);
+
+        // Roll 7 is the second roll of frame 5 (index 4): 0 8 -> 0 7, which also lowers the strike bonus of frame 4
+        FrameRange range = game.replaceRoll(7, new Roll(7));
+
+        assertEquals(2, range.getFrom());
+        assertEquals(9, range.getTo());
+        assertEquals(165, game.getTotalScore());
+        assertMatchesFullRebuild(game);
+    }
+
+    /**
+     * Test that turning an open frame into a strike re-segments the following frames.
+     */
+    @Test
+    public void testReplaceRoll_resegmentsFrames() {
+        List<Roll> rolls = List.of(
+            3, 4, 5, 2, 1, 1, 0, 6, 2, 3, 3, 3, 4, 2, 5, 1, 2, 1, 3, 4
+        ).stream().map(Roll::new).collect(Collectors.toList());
+        EditableGame game = new EditableGame(rolls, service);
+
+        game.replaceRoll(0, new Roll(10));
+
+        assertMatchesFullRebuild(game);
+        assertTrue(game.getFrames().get(0).isStrike());
+    }
+
+    /**
+     * Test inserting and deleting rolls, including appending at the end.
+     */
+    @Test
+    public void testInsertAndDeleteRoll() {
+        // The trailing 8 does not complete the 10th frame yet
+        List<Roll> rolls = List.of(
+            10, 7, 3, 9, 0, 10, 0, 8, 8, 2, 0, 6, 10, 10, 8
+        ).stream().map(Roll::new).collect(Collectors.toList());
+        EditableGame game = new EditableGame(rolls, service);
+        assertEquals(9, game.getFrames().size());
+
+        FrameRange range = game.insertRoll(15, new Roll(1));
+        assertEquals(7, range.getFrom());
+        assertEquals(9, range.getTo());
+        assertEquals(10, game.getFrames().size());
+        assertMatchesFullRebuild(game);
+        int total = game.getTotalScore();
+
+        game.deleteRoll(3);
+        assertMatchesFullRebuild(game);
+
+        game.insertRoll(3, new Roll(9));
+        assertEquals(total, game.getTotalScore());
+        assertMatchesFullRebuild(game);
+    }
+
+    /**
+     * Test that editing a roll that is not part of any frame reports an empty range.
+     */
+    @Test
+    public void testReplaceRoll_outsideFrames() {
+        List<Roll> rolls = List.of(
+            3, 4, 5, 2, 1, 1, 0, 6, 2, 3, 3, 3, 4, 2, 5, 1, 2, 1, 3, 4, 7, 7
+        ).stream().map(Roll::new).collect(Collectors.toList());
+        EditableGame game = new EditableGame(rolls, service);
+
+        FrameRange range = game.replaceRoll(21, new Roll(9));
+
+        assertTrue(range.isEmpty());
+        assertEquals(55, game.getTotalScore());
+    }
+
+    /**
+     * Test that an index outside the list of rolls is rejected.
+     */
+    @Test
+    public void testReplaceRoll_invalidIndex() {
+        List<Roll> rolls = List.of(
+            3, 4
+        ).stream().map(Roll::new).collect(Collectors.toList());
+        EditableGame game = new EditableGame(rolls, service);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> game.replaceRoll(2, new Roll(1)));
+    }
+
+    /**
+     * Test that a game is complete only once the 10th frame has all its rolls.
+     */
+    @Test
+    public void testIsComplete() {
+        List<Roll> rolls = List.of(
+            10, 10, 10, 10, 10, 10, 10, 10, 10, 10
+        ).stream().map(Roll::new).collect(Collectors.toList());
+        EditableGame game = new EditableGame(rolls, service);
+        assertFalse(game.isComplete());
+
+        game.appendRoll(new Roll(10));
+        assertFalse(game.isComplete());
+
+        game.appendRoll(new Roll(10));
+        assertTrue(game.isComplete());
+        assertEquals(300, game.getTotalScore());
+    }
+
+    /**
+     * Test that bonus rolls appended after a 10th-frame strike are segmented into the 10th frame.
+     */
+    @Test
+    public void testInsertRoll_tenthFrameBonusRolls() {
+        List<Roll> rolls = List.of(
+            10, 10, 10, 10, 10, 10, 10, 10, 10, 10
+        ).stream().map(Roll::new).collect(Collectors.toList());
+        EditableGame game = new EditableGame(rolls, service);
+
+        game.insertRoll(10, new Roll(10));
+        FrameRange range = game.insertRoll(11, new Roll(10));
+
+        assertEquals(7, range.getFrom());
+        assertEquals(9, range.getTo());
+        assertEquals("Frame([10, 10, 10])", game.getFrames().get(9).toString());
+        assertEquals(300, game.getTotalScore());
+        assertMatchesFullRebuild(game);
+    }
+}
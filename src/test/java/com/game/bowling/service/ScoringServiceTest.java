@@ -96,4 +96,60 @@ public class ScoringServiceTest {
 
         assertEquals(55, result, "No spares/strikes, should return basic sum");
     }
-}
\ No newline at end of file
+
+    /**
+     * Test that per-frame scores include bonuses and add up to the total score.
+     */
+    @Test
+    public void testCalculateFrameScore_sumsToTotal() {
+        List<Roll> rolls = List.of(
+            10, 7, 3, 9, 0, 10, 0, 8, 8, 2, 0, 6, 10, 10, 10, 8, 1
+        ).stream().map(Roll::new).collect(Collectors.toList());
+
+        List<Frame> frames = service.buildFrames(rolls);
+        int sum = IntStream.range(0, frames.size())
+                           .map(i -> service.calculateFrameScore(frames, i))
+                           .sum();
+
+        assertEquals(20, service.calculateFrameScore(frames, 0), "Strike followed by 7 and 3");
+        assertEquals(service.calculateScore(frames), sum, "Frame scores should add up to the total");
+    }
+
+    /**
+     * Test that the array-based score gives the same result as building frames.
+     */
+    @Test
+    public void testCalculateScore_fromPinArray() {
+        int[] pins = {10, 7, 3, 9, 0, 10, 0, 8, 8, 2, 0, 6, 10, 10, 10, 8, 1};
+
+        assertEquals(167, service.calculateScore(pins, pins.length), "Expected score is 167");
+        assertEquals(300, service.calculateScore(new int[]{10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10}, 12));
+    }
+
+    /**
+     * Test that a game in progress scored from its built-frame rolls matches scoring the built frames,
+     * and that it is complete only once the 10th frame has all its rolls.
+     */
+    @Test
+    public void testCountFrameRolls_partialGames() {
+        int[][] games = {
+            {10, 7, 3, 9, 0, 10, 0, 8, 8, 2, 0, 6, 10, 10, 10, 8, 1},
+            {5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5},
+            {10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10}
+        };
+
+        for (int[] pins : games) {
+            for (int count = 0; count <= pins.length; count++) {
+                List<Roll> rolls = IntStream.of(pins).limit(count).mapToObj(Roll::new).collect(Collectors.toList());
+                List<Frame> frames = service.buildFrames(rolls);
+
+                assertEquals(service.calculateScore(frames),
+                    service.calculateScore(pins, service.countFrameRolls(pins, count)), "After " + count + " rolls");
+                assertEquals(count == pins.length, service.isComplete(pins, count), "After " + count + " rolls");
+            }
+        }
+
+        // A lone first ball is not scored until its frame is built
+        assertEquals(0, service.countFrameRolls(new int[]{7}, 1));
+    }
+}
@@ -0,0 +1,100 @@
+package com.game.bowling.simulation;
+
+import com.game.bowling.model.Roll;
+import com.game.bowling.service.ScoringService;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the MonteCarloSimulator class.
+ * These tests verify simulated games against the regular scoring rules,
+ * reproducibility of results, and season/head-to-head output.
+ */
+public class MonteCarloSimulatorTest {
+
+    private final ScoringService service = new ScoringService();
+
+    /**
+     * Returns a bowler who always knocks down the given number of pins from a full rack
+     * and picks leftover pins evenly at random.
+     */
+    private PinDistribution alwaysFirstBall(int pins) {
+        long[] fullRack = new long[11];
+        fullRack[pins] = 1;
+        return new PinDistribution(fullRack, new long[11][11]);
+    }
+
+    /**
+     * Test that a bowler who always strikes scores a perfect game every time.
+     */
+    @Test
+    public void testSimulate_alwaysStrike() {
+        MonteCarloSimulator simulator = new MonteCarloSimulator(service, 2, 42);
+
+        ScoreDistribution result = simulator.simulate(alwaysFirstBall(10), 1000);
+
+        assertEquals(1000, result.getGames());
+        assertEquals(1000, result.getCount(300));
+    }
+
+    /**
+     * Test that simulated games are complete games whose array score matches buildFrames and calculateScore.
+     */
+    @Test
+    public void testPlayGame_matchesScoringService() {
+        PinDistribution bowler = alwaysFirstBall(7);
+        SplittableRandom random = new SplittableRandom(1);
+        int[] pins = new int[21];
+
+        for (int g = 0; g < 500; g++) {
+            int count = MonteCarloSimulator.playGame(bowler, random, pins);
+            List<Roll> rolls = Arrays.stream(pins, 0, count).mapToObj(Roll::new).collect(Collectors.toList());
+
+            assertEquals(10, service.buildFrames(rolls).size());
+            assertEquals(service.calculateScore(service.buildFrames(rolls)), service.calculateScore(pins, count));
+        }
+    }
+
+    /**
+     * Test that the same seed gives the same distribution regardless of the number of threads.
+     */
+    @Test
+    public void testSimulate_reproducibleAcrossThreadCounts() {
+        PinDistribution bowler = alwaysFirstBall(8);
+        long games = 3L * MonteCarloSimulator.CHUNK_SIZE + 17;
+
+        ScoreDistribution single = new MonteCarloSimulator(service, 1, 7).simulate(bowler, games);
+        ScoreDistribution parallel = new MonteCarloSimulator(service, 4, 7).simulate(bowler, games);
+
+        assertEquals(games, parallel.getGames());
+        for (int s = 0; s <= ScoreDistribution.MAX_SCORE; s++) {
+            assertEquals(single.getCount(s), parallel.getCount(s), "Score " + s);
+        }
+    }
+
+    /**
+     * Test that a season gives every bowler a distribution and a stronger bowler is favoured head-to-head.
+     */
+    @Test
+    public void testSimulateSeason_headToHead() {
+        Map<String, PinDistribution> bowlers = new LinkedHashMap<>();
+        bowlers.put("strong", alwaysFirstBall(9));
+        bowlers.put("weak", alwaysFirstBall(3));
+
+        Map<String, ScoreDistribution> season = new MonteCarloSimulator(service, 2, 3).simulateSeason(bowlers, 5000);
+
+        assertEquals(List.of("strong", "weak"), List.copyOf(season.keySet()));
+        double strongWins = MonteCarloSimulator.headToHead(season.get("strong"), season.get("weak"));
+        double weakWins = MonteCarloSimulator.headToHead(season.get("weak"), season.get("strong"));
+        assertTrue(strongWins > 0.9, "Strong bowler should usually win: " + strongWins);
+        assertEquals(1.0, strongWins + weakWins, 1e-9);
+    }
+}
@@ -0,0 +1,49 @@
+package com.game.bowling.simulation;
+
+import com.game.bowling.model.Roll;
+import com.game.bowling.service.ScoringService;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PinDistribution class.
+ * These tests verify that past games are split into full-rack and leftover balls
+ * and that sampling only returns observed pin counts.
+ */
+public class PinDistributionTest {
+
+    /**
+     * Test that a history of 7-2 frames only ever produces 7 on the first ball and 2 on the second.
+     */
+    @Test
+    public void testFromGames_samplesObservedValues() {
+        List<Roll> game = List.of(7, 2, 7, 2, 7, 2, 7, 2, 7, 2, 7, 2, 7, 2, 7, 2, 7, 2, 7, 2)
+                              .stream().map(Roll::new).collect(Collectors.toList());
+        PinDistribution distribution = PinDistribution.fromGames(List.of(game), new ScoringService());
+        SplittableRandom random = new SplittableRandom(5);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(7, distribution.rollFullRack(random));
+            assertEquals(2, distribution.rollLeftover(3, random));
+        }
+    }
+
+    /**
+     * Test that leftover counts never observed fall back to a value within the standing pins.
+     */
+    @Test
+    public void testRollLeftover_unobservedStaysInRange() {
+        PinDistribution distribution = new PinDistribution(new long[11], new long[11][11]);
+        SplittableRandom random = new SplittableRandom(9);
+
+        for (int i = 0; i < 100; i++) {
+            int pins = distribution.rollLeftover(4, random);
+            assertTrue(pins >= 0 && pins <= 4, "Out of range: " + pins);
+        }
+    }
+}
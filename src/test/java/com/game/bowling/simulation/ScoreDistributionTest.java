@@ -0,0 +1,55 @@
+package com.game.bowling.simulation;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ScoreDistribution class.
+ * These tests verify mean, percentiles and head-to-head probabilities on small histograms.
+ */
+public class ScoreDistributionTest {
+
+    private ScoreDistribution of(int... scores) {
+        long[] histogram = new long[ScoreDistribution.MAX_SCORE + 1];
+        for (int score : scores) {
+            histogram[score]++;
+        }
+        return new ScoreDistribution(histogram);
+    }
+
+    /**
+     * Test mean and percentiles of a small distribution.
+     */
+    @Test
+    public void testMeanAndPercentiles() {
+        ScoreDistribution distribution = of(100, 150, 200, 250);
+
+        assertEquals(4, distribution.getGames());
+        assertEquals(175.0, distribution.getMean(), 1e-9);
+        assertEquals(100, distribution.getPercentile(0));
+        assertEquals(150, distribution.getPercentile(50));
+        assertEquals(250, distribution.getPercentile(100));
+    }
+
+    /**
+     * Test win and tie probabilities between two distributions.
+     */
+    @Test
+    public void testProbabilityOfBeatingAndTie() {
+        ScoreDistribution first = of(100, 200);
+        ScoreDistribution second = of(100, 150);
+
+        // Pairs: (100,100) tie, (100,150) loss, (200,100) win, (200,150) win
+        assertEquals(0.5, first.probabilityOfBeating(second), 1e-9);
+        assertEquals(0.25, first.probabilityOfTie(second), 1e-9);
+        assertEquals(0.25, second.probabilityOfBeating(first), 1e-9);
+    }
+
+    /**
+     * Test that an invalid percentile is rejected.
+     */
+    @Test
+    public void testGetPercentile_invalid() {
+        assertThrows(IllegalArgumentException.class, () -> of(100).getPercentile(101));
+    }
+}
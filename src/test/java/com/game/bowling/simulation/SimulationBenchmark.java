@@ -0,0 +1,48 @@
+package com.game.bowling.simulation;
+
+import com.game.bowling.service.ScoringService;
+
+/**
+ * Throughput benchmark for the MonteCarloSimulator (not part of the unit test run).
+ * Simulates games for a bowler with a realistic pin distribution on all available cores
+ * and reports simulated games per second, and the time 1B games would take at that rate.
+ *
+ * Run with:
+ * mvn test-compile exec:java -Dexec.mainClass="com.game.bowling.simulation.SimulationBenchmark" -Dexec.classpathScope=test -Dexec.args="100000000"
+ */
+public class SimulationBenchmark {
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args optionally the number of games and the number of threads
+     */
+    public static void main(String[] args) {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 50_000_000L;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        // A league bowler: strikes about 40% of the time, converts most single-digit leaves
+        long[] fullRack = {1, 1, 1, 2, 3, 5, 8, 12, 15, 12, 40};
+        long[][] leftover = new long[11][11];
+        for (int standing = 1; standing <= 10; standing++) {
+            for (int pins = 0; pins <= standing; pins++) {
+                leftover[standing][pins] = pins == standing ? 10 : 1;
+            }
+        }
+        PinDistribution bowler = new PinDistribution(fullRack, leftover);
+        MonteCarloSimulator simulator = new MonteCarloSimulator(new ScoringService(), threads, 1);
+
+        simulator.simulate(bowler, Math.min(games, 10_000_000L)); // warm up
+
+        long start = System.nanoTime();
+        ScoreDistribution result = simulator.simulate(bowler, games);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        double perSecond = games / seconds;
+
+        System.out.printf("Threads:         %d%n", threads);
+        System.out.printf("Games:           %,d in %.2f s%n", games, seconds);
+        System.out.printf("Throughput:      %,.0f games/s (%,.0f games/s per thread)%n", perSecond, perSecond / threads);
+        System.out.printf("1B games:        %.1f s at this rate%n", 1e9 / perSecond);
+        System.out.printf("Result:          %s, median %d, p99 %d%n", result, result.getPercentile(50), result.getPercentile(99));
+    }
+}